@@ -2,12 +2,17 @@ package com.example.saas.chatbot.application.service.auth;
 
 import com.example.saas.chatbot.domain.auth.exception.InvalidCredentialsException;
 import com.example.saas.chatbot.domain.auth.exception.InvalidTokenException;
-import com.example.saas.chatbot.domain.auth.exception.UserAlreadyExistsException;
+import com.example.saas.chatbot.domain.auth.exception.SessionNotFoundException;
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
 import com.example.saas.chatbot.domain.auth.model.AuthToken;
 import com.example.saas.chatbot.domain.auth.model.RefreshToken;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenRotation;
 import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.Session;
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
 import com.example.saas.chatbot.domain.auth.model.User;
 import com.example.saas.chatbot.domain.auth.port.in.AuthUseCase;
+import com.example.saas.chatbot.domain.auth.port.out.AuthAuditPort;
 import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
 import com.example.saas.chatbot.domain.auth.port.out.RefreshTokenRepositoryPort;
 import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
@@ -16,6 +21,8 @@ import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 public class AuthService implements AuthUseCase {
 
@@ -24,27 +31,38 @@ public class AuthService implements AuthUseCase {
     private final PasswordEncoderPort passwordEncoder;
     private final RefreshTokenRepositoryPort refreshTokenRepository;
     private final TokenBlacklistPort tokenBlacklist;
+    private final AuthAuditPort audit;
+    private final RefreshCoalescer refreshCoalescer;
+    private final Executor rehashExecutor;
 
     public AuthService(UserRepositoryPort userRepository,
                        TokenProviderPort tokenProvider,
                        PasswordEncoderPort passwordEncoder,
                        RefreshTokenRepositoryPort refreshTokenRepository,
-                       TokenBlacklistPort tokenBlacklist) {
+                       TokenBlacklistPort tokenBlacklist,
+                       AuthAuditPort audit,
+                       RefreshCoalescer refreshCoalescer,
+                       Executor rehashExecutor) {
         this.userRepository = userRepository;
         this.tokenProvider = tokenProvider;
         this.passwordEncoder = passwordEncoder;
         this.refreshTokenRepository = refreshTokenRepository;
         this.tokenBlacklist = tokenBlacklist;
+        this.audit = audit;
+        this.refreshCoalescer = refreshCoalescer;
+        this.rehashExecutor = rehashExecutor;
     }
 
     @Override
     public AuthToken login(String email, String password) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(InvalidCredentialsException::new);
-
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null || !passwordEncoder.matches(password, user.getPassword())) {
+            audit.record(AuthAuditType.LOGIN_FAILED, email);
             throw new InvalidCredentialsException();
         }
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            rehashExecutor.execute(() -> rehash(email, password));
+        }
 
         String accessToken = tokenProvider.generateAccessToken(user);
         String refreshTokenValue = tokenProvider.generateRefreshToken(user);
@@ -56,15 +74,21 @@ public class AuthService implements AuthUseCase {
         );
         refreshTokenRepository.save(refreshToken);
 
+        audit.record(AuthAuditType.LOGIN_SUCCEEDED, user.getEmail());
         return new AuthToken(accessToken, refreshTokenValue);
     }
 
-    @Override
-    public User register(String email, String password) {
-        if (userRepository.existsByEmail(email)) {
-            throw new UserAlreadyExistsException(email);
+    // best effort: if it fails or is dropped, the next successful login tries again
+    private void rehash(String email, String password) {
+        try {
+            userRepository.updatePassword(email, passwordEncoder.encode(password));
+        } catch (RuntimeException ignored) {
         }
+    }
 
+    @Override
+    public User register(String email, String password) {
+        // a single insert; the repository reports a taken email as UserAlreadyExistsException
         User newUser = User.builder()
                 .email(email)
                 .password(passwordEncoder.encode(password))
@@ -76,40 +100,74 @@ public class AuthService implements AuthUseCase {
 
     @Override
     public void logout(String accessToken, String refreshToken) {
-        tokenBlacklist.blacklist(accessToken);
+        TokenVerification verification = tokenProvider.verify(accessToken);
+        String subject = null;
+        if (verification.isValid()) {
+            tokenBlacklist.blacklist(verification.tokenId(), verification.expiresAt());
+            subject = verification.subject();
+        }
+
+        RefreshToken rt = refreshToken != null ? refreshTokenRepository.findByToken(refreshToken).orElse(null) : null;
+        if (rt != null) {
+            if (rt.getFamilyId() != null) {
+                refreshTokenRepository.revokeFamily(rt.getUserEmail(), rt.getFamilyId());
+            } else {
+                refreshTokenRepository.revokeAllByUserEmail(rt.getUserEmail());
+            }
+            subject = rt.getUserEmail();
+        }
 
-        if (refreshToken != null) {
-            refreshTokenRepository.findByToken(refreshToken)
-                    .ifPresent(rt -> {
-                        refreshTokenRepository.revokeAllByUserEmail(rt.getUserEmail());
-                    });
+        if (subject != null) {
+            audit.record(AuthAuditType.LOGGED_OUT, subject);
         }
     }
 
     @Override
     public AuthToken refresh(String refreshToken) {
-        RefreshToken stored = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
+        return refreshCoalescer.execute(refreshToken, this::rotate, this::isActive);
+    }
+
+    // a rotated pair is only replayed to stragglers while its session has not been revoked or rotated on
+    private boolean isActive(AuthToken rotated) {
+        return refreshTokenRepository.findByToken(rotated.getRefreshToken())
+                .filter(RefreshToken::isValid)
+                .isPresent();
+    }
 
-        if (!stored.isValid()) {
+    private AuthToken rotate(String refreshToken) {
+        RefreshTokenRotation rotation = refreshTokenRepository.rotate(refreshToken, (user, familyId) -> new RefreshToken(
+                        tokenProvider.generateRefreshToken(user),
+                        user.getEmail(),
+                        familyId,
+                        Instant.now().plus(7, ChronoUnit.DAYS)
+                ))
+                .orElse(null);
+        if (rotation == null) {
+            audit.record(AuthAuditType.REFRESH_FAILED, null);
             throw new InvalidTokenException("Refresh token is invalid or expired");
         }
 
-        User user = userRepository.findByEmail(stored.getUserEmail())
-                .orElseThrow(InvalidCredentialsException::new);
-
-        refreshTokenRepository.revokeAllByUserEmail(user.getEmail());
+        String newAccessToken = tokenProvider.generateAccessToken(rotation.user());
+        audit.record(AuthAuditType.REFRESHED, rotation.user().getEmail());
+        return new AuthToken(newAccessToken, rotation.successor().getToken());
+    }
 
-        String newAccessToken = tokenProvider.generateAccessToken(user);
-        String newRefreshTokenValue = tokenProvider.generateRefreshToken(user);
+    @Override
+    public List<Session> listSessions(String email) {
+        return refreshTokenRepository.findActiveByUserEmail(email).stream()
+                .map(Session::of)
+                .toList();
+    }
 
-        RefreshToken newRefreshToken = new RefreshToken(
-                newRefreshTokenValue,
-                user.getEmail(),
-                Instant.now().plus(7, ChronoUnit.DAYS)
-        );
-        refreshTokenRepository.save(newRefreshToken);
+    @Override
+    public void revokeSession(String email, String sessionId) {
+        if (!refreshTokenRepository.revokeFamily(email, sessionId)) {
+            throw new SessionNotFoundException(sessionId);
+        }
+    }
 
-        return new AuthToken(newAccessToken, newRefreshTokenValue);
+    @Override
+    public void revokeAllSessions(String email) {
+        refreshTokenRepository.revokeAllByUserEmail(email);
     }
 }
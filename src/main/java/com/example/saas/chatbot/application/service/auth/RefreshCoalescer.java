@@ -0,0 +1,79 @@
+package com.example.saas.chatbot.application.service.auth;
+
+import com.example.saas.chatbot.domain.auth.model.AuthToken;
+import com.example.saas.chatbot.domain.shared.security.TokenDigests;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Collapses concurrent refreshes of the same refresh token into a single rotation.
+ *
+ * <p>The first caller for a token runs the rotation; callers arriving while it is in flight, or
+ * within the grace period after it succeeded, receive the same {@link AuthToken}. A straggler is
+ * only served the rotated pair while {@code stillActive} accepts it, so a session that was
+ * logged out or revoked in the meantime is not handed back to a rotated cookie. A failed
+ * rotation is handed to the callers already waiting and then forgotten, so later callers retry.
+ * Entries are keyed by the token's SHA-256 digest, never the token itself.
+ */
+public class RefreshCoalescer {
+
+    private final Duration gracePeriod;
+    private final Map<ByteBuffer, CompletableFuture<AuthToken>> flights = new ConcurrentHashMap<>();
+
+    public RefreshCoalescer(Duration gracePeriod) {
+        this.gracePeriod = gracePeriod;
+    }
+
+    public AuthToken execute(String refreshToken,
+                             Function<String, AuthToken> rotation,
+                             Predicate<AuthToken> stillActive) {
+        ByteBuffer key = ByteBuffer.wrap(TokenDigests.sha256(refreshToken));
+        CompletableFuture<AuthToken> flight = new CompletableFuture<>();
+        CompletableFuture<AuthToken> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            AuthToken shared = await(existing);
+            if (stillActive.test(shared)) {
+                return shared;
+            }
+            // revoked since it was rotated: the presented token was consumed, so rotating again fails
+            flights.remove(key, existing);
+            return rotation.apply(refreshToken);
+        }
+
+        AuthToken result;
+        try {
+            result = rotation.apply(refreshToken);
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+
+        flight.complete(result);
+        CompletableFuture.delayedExecutor(gracePeriod.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> flights.remove(key, flight));
+        return result;
+    }
+
+    private static AuthToken await(CompletableFuture<AuthToken> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.saas.chatbot.application.service.auth;
+
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport;
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport.RowResult;
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport.Status;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.model.UserImportRow;
+import com.example.saas.chatbot.domain.auth.port.in.UserProvisioningUseCase;
+import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
+import com.example.saas.chatbot.domain.auth.port.out.UserBulkRepositoryPort;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Creates users from an import file in batches. Rows are validated one by one, duplicates
+ * within the file are caught in memory, and the rest are inserted {@code batchSize} at a time;
+ * a row whose email is already registered is reported instead of failing the batch.
+ *
+ * <p>Rows with a raw password pay the full password hashing cost each, on the importing thread
+ * through an encoder that never rejects, so one import hashes at most one password at a time and
+ * runs to the end. Onboarding from another system should send {@code passwordHash} instead,
+ * which is stored as is.
+ */
+public class UserProvisioningService implements UserProvisioningUseCase {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final String HASH_PREFIX = "{bcrypt}";
+    private static final int MIN_PASSWORD_LENGTH = 8;
+
+    private final UserBulkRepositoryPort userBulkRepository;
+    private final PasswordEncoderPort passwordEncoder;
+    private final int batchSize;
+
+    public UserProvisioningService(UserBulkRepositoryPort userBulkRepository,
+                                   PasswordEncoderPort passwordEncoder,
+                                   int batchSize) {
+        this.userBulkRepository = userBulkRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ProvisioningReport provision(Iterator<UserImportRow> rows) {
+        List<RowResult> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<User> batch = new ArrayList<>(batchSize);
+        List<UserImportRow> batchRows = new ArrayList<>(batchSize);
+
+        while (rows.hasNext()) {
+            UserImportRow row = rows.next();
+            String problem = validate(row);
+            if (problem != null) {
+                results.add(new RowResult(row.line(), row.email(), Status.INVALID, problem));
+                continue;
+            }
+            if (!seen.add(row.email())) {
+                results.add(new RowResult(row.line(), row.email(), Status.DUPLICATE, "Repeated in this file"));
+                continue;
+            }
+
+            batch.add(toUser(row));
+            batchRows.add(row);
+            if (batch.size() == batchSize) {
+                flush(batch, batchRows, results);
+            }
+        }
+        flush(batch, batchRows, results);
+
+        results.sort((a, b) -> Integer.compare(a.line(), b.line()));
+        return ProvisioningReport.of(results);
+    }
+
+    private void flush(List<User> batch, List<UserImportRow> batchRows, List<RowResult> results) {
+        if (batch.isEmpty()) return;
+
+        boolean[] inserted = userBulkRepository.insertIgnoringExisting(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            UserImportRow row = batchRows.get(i);
+            results.add(inserted[i]
+                    ? new RowResult(row.line(), row.email(), Status.CREATED, null)
+                    : new RowResult(row.line(), row.email(), Status.DUPLICATE, "Email already registered"));
+        }
+        batch.clear();
+        batchRows.clear();
+    }
+
+    private User toUser(UserImportRow row) {
+        String hash = row.passwordHash() != null ? row.passwordHash() : passwordEncoder.encode(row.password());
+        return User.builder()
+                .email(row.email())
+                .password(hash)
+                .role(row.role() != null ? Role.valueOf(row.role().toUpperCase(Locale.ROOT)) : Role.USER)
+                .build();
+    }
+
+    private static String validate(UserImportRow row) {
+        if (row.email() == null || !EMAIL.matcher(row.email()).matches()) {
+            return "Must be a valid email";
+        }
+        if (row.passwordHash() != null) {
+            if (!row.passwordHash().startsWith(HASH_PREFIX)) {
+                return "passwordHash must start with " + HASH_PREFIX;
+            }
+        } else if (row.password() == null || row.password().length() < MIN_PASSWORD_LENGTH) {
+            return "Password must be at least " + MIN_PASSWORD_LENGTH + " characters";
+        }
+        if (row.role() != null && !isRole(row.role())) {
+            return "Unknown role: " + row.role();
+        }
+        return null;
+    }
+
+    private static boolean isRole(String role) {
+        for (Role candidate : Role.values()) {
+            if (candidate.name().equalsIgnoreCase(role)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.saas.chatbot.application.service.chat;
+
+import com.example.saas.chatbot.domain.chat.exception.ConversationNotFoundException;
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.ChatReply;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import com.example.saas.chatbot.domain.chat.port.in.ChatUseCase;
+import com.example.saas.chatbot.domain.chat.port.out.ConversationRepositoryPort;
+import com.example.saas.chatbot.domain.chat.port.out.LlmProviderPort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Conversations and their messages. The provider only sees the latest {@code contextMessages}
+ * messages, and a reply is stored once it is complete, so a stream the client abandons leaves
+ * the user's message unanswered rather than half answered.
+ *
+ * <p>Both the user's message and the reply are awaited until they are durable: the first is
+ * read back as context for the reply, and the {@code done} event of a stream promises the second.
+ * A caller waits at most {@code storeTimeout}; the message may still be stored after that.
+ */
+public class ChatService implements ChatUseCase {
+
+    private final ConversationRepositoryPort conversationRepository;
+    private final LlmProviderPort llmProvider;
+    private final int contextMessages;
+    private final Duration storeTimeout;
+
+    public ChatService(ConversationRepositoryPort conversationRepository,
+                       LlmProviderPort llmProvider,
+                       int contextMessages,
+                       Duration storeTimeout) {
+        this.conversationRepository = conversationRepository;
+        this.llmProvider = llmProvider;
+        this.contextMessages = contextMessages;
+        this.storeTimeout = storeTimeout;
+    }
+
+    @Override
+    public Conversation startConversation(String ownerEmail, String title) {
+        return conversationRepository.save(Conversation.start(ownerEmail, title));
+    }
+
+    @Override
+    public List<ChatMessage> history(String ownerEmail, String conversationId) {
+        requireOwned(ownerEmail, conversationId);
+        return conversationRepository.findRecentMessages(conversationId, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public ChatMessage postMessage(String ownerEmail, String conversationId, String content) {
+        requireOwned(ownerEmail, conversationId);
+        return stored(conversationRepository.appendMessage(conversationId, MessageRole.USER, content));
+    }
+
+    @Override
+    public ChatReply streamReply(String ownerEmail, String conversationId, Consumer<String> onToken) {
+        requireOwned(ownerEmail, conversationId);
+        List<ChatMessage> context = conversationRepository.findRecentMessages(conversationId, contextMessages);
+
+        ReplyCollector reply = new ReplyCollector(onToken);
+        llmProvider.streamReply(context, reply);
+        Duration duration = Duration.ofNanos(System.nanoTime() - reply.started);
+
+        ChatMessage message = stored(conversationRepository.appendMessage(conversationId, MessageRole.ASSISTANT,
+                reply.text.toString()));
+        return new ChatReply(message, reply.tokens, reply.timeToFirstToken(), duration);
+    }
+
+    // someone else's conversation is reported exactly like a missing one
+    private void requireOwned(String ownerEmail, String conversationId) {
+        conversationRepository.findById(conversationId)
+                .filter(conversation -> conversation.isOwnedBy(ownerEmail))
+                .orElseThrow(() -> new ConversationNotFoundException(conversationId));
+    }
+
+    private ChatMessage stored(CompletableFuture<ChatMessage> pending) {
+        try {
+            // on a copy: orTimeout completes the future it is called on, and the repository's
+            // write-behind queue still holds this one and completes it once the row is written
+            return pending.copy().orTimeout(storeTimeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException("Timed out waiting for the message to be stored", e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class ReplyCollector implements Consumer<String> {
+
+        private final Consumer<String> downstream;
+        private final StringBuilder text = new StringBuilder();
+        private final long started = System.nanoTime();
+        private long firstToken;
+        private int tokens;
+
+        ReplyCollector(Consumer<String> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void accept(String token) {
+            if (tokens++ == 0) {
+                firstToken = System.nanoTime();
+            }
+            text.append(token);
+            downstream.accept(token);
+        }
+
+        Duration timeToFirstToken() {
+            return tokens == 0 ? Duration.ZERO : Duration.ofNanos(firstToken - started);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.saas.chatbot.application.shared.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ApiResponse} bodies that repeat verbatim, serialized once and written as raw bytes.
+ *
+ * <p>Bodies are cached by their type (or title, for successes) and detail. A lookup of a cached
+ * body allocates nothing, and neither does the response around it, so a rejected login costs
+ * little more than the exception. Details must come from a small fixed set of messages: past
+ * {@value #MAX_DETAILS_PER_KEY} distinct details per key, bodies are serialized on every call.
+ */
+public class ResponseBodies {
+
+    private static final int MAX_DETAILS_PER_KEY = 64;
+    private static final HttpHeaders JSON = HttpHeaders.readOnlyHttpHeaders(jsonHeaders());
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Map<String, byte[]>> errors = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, byte[]>> successes = new ConcurrentHashMap<>();
+
+    public ResponseBodies(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ResponseEntity<byte[]> error(HttpStatusCode status, String type, String title, String detail) {
+        return new ResponseEntity<>(errorBody(status, type, title, detail), JSON, status);
+    }
+
+    public ResponseEntity<byte[]> success(HttpStatusCode status, String title, String detail) {
+        byte[] body = lookup(successes, title, detail);
+        if (body == null) {
+            body = store(successes, title, detail, ApiResponse.success(status.value(), title, detail));
+        }
+        return new ResponseEntity<>(body, JSON, status);
+    }
+
+    /**
+     * The serialized error body alone, for responses that need headers of their own.
+     */
+    public byte[] errorBody(HttpStatusCode status, String type, String title, String detail) {
+        byte[] body = lookup(errors, type, detail);
+        if (body == null) {
+            body = store(errors, type, detail, ApiResponse.error(type, title, status.value(), detail));
+        }
+        return body;
+    }
+
+    // no lambdas on the lookup path: a capturing one would allocate on every hit
+    private static byte[] lookup(Map<String, Map<String, byte[]>> cache, String key, String detail) {
+        Map<String, byte[]> byDetail = cache.get(key);
+        return byDetail == null || detail == null ? null : byDetail.get(detail);
+    }
+
+    private byte[] store(Map<String, Map<String, byte[]>> cache, String key, String detail, ApiResponse response) {
+        byte[] body = serialize(response);
+        if (detail == null) {
+            return body;
+        }
+        Map<String, byte[]> byDetail = cache.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        if (byDetail.size() < MAX_DETAILS_PER_KEY) {
+            byDetail.putIfAbsent(detail, body);
+        }
+        return body;
+    }
+
+    private byte[] serialize(ApiResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        }
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+}
@@ -1,23 +1,41 @@
 package com.example.saas.chatbot.application.shared.exception;
 
 import com.example.saas.chatbot.application.shared.dto.ApiResponse;
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
 import com.example.saas.chatbot.domain.auth.exception.InvalidCredentialsException;
 import com.example.saas.chatbot.domain.auth.exception.InvalidTokenException;
+import com.example.saas.chatbot.domain.auth.exception.SessionNotFoundException;
 import com.example.saas.chatbot.domain.auth.exception.UserAlreadyExistsException;
+import com.example.saas.chatbot.domain.chat.exception.ConversationNotFoundException;
 import com.example.saas.chatbot.domain.shared.exception.DomainException;
+import com.example.saas.chatbot.domain.shared.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    private final ResponseBodies responseBodies;
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse> handleValidation(MethodArgumentNotValidException ex) {
+        countError("validation");
         List<ApiResponse.FieldError> fieldErrors = ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
@@ -30,37 +48,80 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<ApiResponse> handleInvalidCredentials(InvalidCredentialsException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error("auth/invalid-credentials", "Authentication Failed", 401, ex.getMessage()));
+    public ResponseEntity<byte[]> handleInvalidCredentials(InvalidCredentialsException ex) {
+        countError("auth/invalid-credentials");
+        return responseBodies.error(HttpStatus.UNAUTHORIZED, "auth/invalid-credentials", "Authentication Failed", ex.getMessage());
     }
 
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<ApiResponse> handleUserAlreadyExists(UserAlreadyExistsException ex) {
+        countError("auth/user-already-exists");
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .body(ApiResponse.error("auth/user-already-exists", "Registration Failed", 409, ex.getMessage()));
     }
 
     @ExceptionHandler(InvalidTokenException.class)
-    public ResponseEntity<ApiResponse> handleInvalidToken(InvalidTokenException ex) {
+    public ResponseEntity<byte[]> handleInvalidToken(InvalidTokenException ex) {
+        countError("auth/invalid-token");
+        return responseBodies.error(HttpStatus.UNAUTHORIZED, "auth/invalid-token", "Token Invalid", ex.getMessage());
+    }
+
+    @ExceptionHandler(SessionNotFoundException.class)
+    public ResponseEntity<ApiResponse> handleSessionNotFound(SessionNotFoundException ex) {
+        countError("auth/session-not-found");
         return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error("auth/invalid-token", "Token Invalid", 401, ex.getMessage()));
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("auth/session-not-found", "Session Not Found", 404, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ConversationNotFoundException.class)
+    public ResponseEntity<ApiResponse> handleConversationNotFound(ConversationNotFoundException ex) {
+        countError("chat/conversation-not-found");
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("chat/conversation-not-found", "Conversation Not Found", 404, ex.getMessage()));
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<byte[]> handleRateLimitExceeded(RateLimitExceededException ex) {
+        countError("server/too-many-requests");
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBodies.errorBody(HttpStatus.TOO_MANY_REQUESTS, "server/too-many-requests",
+                        "Too Many Requests", ex.getMessage()));
     }
 
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ApiResponse> handleDomainException(DomainException ex) {
+        countError("domain/error");
         return ResponseEntity
                 .badRequest()
                 .body(ApiResponse.error("domain/error", "Domain Error", 400, ex.getMessage()));
     }
 
+    // a reply stream that outlived chat.stream.timeout; its response is already streaming, so no
+    // body is written and ChatStreamer has counted it as aborted
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<Void> handleAsyncRequestTimeout(AsyncRequestTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse> handleUnexpected(Exception ex) {
-        return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error("server/internal-error", "Internal Server Error", 500, "An unexpected error occurred"));
+    public ResponseEntity<byte[]> handleUnexpected(Exception ex) {
+        countError("server/internal-error");
+        return responseBodies.error(HttpStatus.INTERNAL_SERVER_ERROR, "server/internal-error",
+                "Internal Server Error", "An unexpected error occurred");
+    }
+
+    private void countError(String type) {
+        // looked up before computeIfAbsent so the common case does not build the meter id
+        Counter counter = errorCounters.get(type);
+        if (counter == null) {
+            counter = errorCounters.computeIfAbsent(type, t -> meterRegistry.counter("api.errors", "type", t));
+        }
+        counter.increment();
     }
 }
@@ -5,6 +5,6 @@ import com.example.saas.chatbot.domain.shared.exception.DomainException;
 public class InvalidCredentialsException extends DomainException {
 
     public InvalidCredentialsException() {
-        super("Invalid email or password");
+        super("Invalid email or password", true);
     }
 }
@@ -5,6 +5,6 @@ import com.example.saas.chatbot.domain.shared.exception.DomainException;
 public class InvalidTokenException extends DomainException {
 
     public InvalidTokenException(String message) {
-        super(message);
+        super(message, true);
     }
 }
@@ -0,0 +1,10 @@
+package com.example.saas.chatbot.domain.auth.exception;
+
+import com.example.saas.chatbot.domain.shared.exception.DomainException;
+
+public class SessionNotFoundException extends DomainException {
+
+    public SessionNotFoundException(String sessionId) {
+        super("Session not found: " + sessionId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+public enum AuthAuditType {
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED,
+    REFRESHED,
+    REFRESH_FAILED,
+    LOGGED_OUT
+}
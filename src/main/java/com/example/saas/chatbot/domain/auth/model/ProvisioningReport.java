@@ -0,0 +1,32 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk provisioning run, one {@link RowResult} per input record in input order.
+ */
+public record ProvisioningReport(int total, int created, int duplicates, int invalid, List<RowResult> rows) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public record RowResult(int line, String email, Status status, String detail) {
+    }
+
+    public static ProvisioningReport of(List<RowResult> rows) {
+        int created = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        for (RowResult row : rows) {
+            switch (row.status()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new ProvisioningReport(rows.size(), created, duplicates, invalid, rows);
+    }
+}
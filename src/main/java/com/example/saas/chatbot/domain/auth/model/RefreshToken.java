@@ -1,25 +1,43 @@
 package com.example.saas.chatbot.domain.auth.model;
 
 import java.time.Instant;
+import java.util.UUID;
 
 public class RefreshToken {
     private Long id;
     private final String token;
     private final String userEmail;
+    private final String familyId;
+    private final Instant issuedAt;
     private final Instant expiresAt;
     private boolean revoked;
 
+    /**
+     * Starts a new session family, one per login.
+     */
     public RefreshToken(String token, String userEmail, Instant expiresAt) {
+        this(token, userEmail, UUID.randomUUID().toString(), expiresAt);
+    }
+
+    /**
+     * Continues an existing session family, used when rotating.
+     */
+    public RefreshToken(String token, String userEmail, String familyId, Instant expiresAt) {
         this.token = token;
         this.userEmail = userEmail;
+        this.familyId = familyId;
+        this.issuedAt = Instant.now();
         this.expiresAt = expiresAt;
         this.revoked = false;
     }
 
-    public RefreshToken(Long id, String token, String userEmail, Instant expiresAt, boolean revoked) {
+    public RefreshToken(Long id, String token, String userEmail, String familyId,
+                        Instant issuedAt, Instant expiresAt, boolean revoked) {
         this.id = id;
         this.token = token;
         this.userEmail = userEmail;
+        this.familyId = familyId;
+        this.issuedAt = issuedAt;
         this.expiresAt = expiresAt;
         this.revoked = revoked;
     }
@@ -36,6 +54,14 @@ public class RefreshToken {
         return userEmail;
     }
 
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
     public Instant getExpiresAt() {
         return expiresAt;
     }
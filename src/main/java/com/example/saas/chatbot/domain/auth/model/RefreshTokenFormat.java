@@ -0,0 +1,10 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+public enum RefreshTokenFormat {
+    JWT,
+    OPAQUE;
+
+    public static RefreshTokenFormat of(String token) {
+        return token.indexOf('.') >= 0 ? JWT : OPAQUE;
+    }
+}
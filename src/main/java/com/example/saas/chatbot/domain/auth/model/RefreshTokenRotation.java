@@ -0,0 +1,8 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+/**
+ * Result of consuming a refresh token: the owner it was issued to and the successor that was
+ * stored in its place.
+ */
+public record RefreshTokenRotation(User user, RefreshToken successor) {
+}
@@ -0,0 +1,13 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+import java.time.Instant;
+
+/**
+ * One signed-in device: a family of refresh tokens that replace each other on rotation.
+ */
+public record Session(String id, Instant lastRefreshedAt, Instant expiresAt) {
+
+    public static Session of(RefreshToken current) {
+        return new Session(current.getFamilyId(), current.getIssuedAt(), current.getExpiresAt());
+    }
+}
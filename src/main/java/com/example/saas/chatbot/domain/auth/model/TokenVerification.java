@@ -0,0 +1,45 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+import java.time.Instant;
+
+/**
+ * Outcome of verifying an access token in a single parse. Only {@link Status#VALID}
+ * results carry claims; expired and invalid tokens expose nothing but their status.
+ */
+public record TokenVerification(
+        Status status,
+        String subject,
+        Role role,
+        String tokenId,
+        Instant expiresAt
+) {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    private static final TokenVerification EXPIRED = new TokenVerification(Status.EXPIRED, null, null, null, null);
+    private static final TokenVerification INVALID = new TokenVerification(Status.INVALID, null, null, null, null);
+
+    public static TokenVerification valid(String subject, Role role, String tokenId, Instant expiresAt) {
+        return new TokenVerification(Status.VALID, subject, role, tokenId, expiresAt);
+    }
+
+    public static TokenVerification expired() {
+        return EXPIRED;
+    }
+
+    public static TokenVerification invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+}
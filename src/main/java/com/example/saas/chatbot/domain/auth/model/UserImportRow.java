@@ -0,0 +1,8 @@
+package com.example.saas.chatbot.domain.auth.model;
+
+/**
+ * One record of a bulk provisioning file as read, before validation. Either {@code password}
+ * (hashed on import) or {@code passwordHash} (an already prefixed hash) is set.
+ */
+public record UserImportRow(int line, String email, String password, String passwordHash, String role) {
+}
@@ -1,11 +1,17 @@
 package com.example.saas.chatbot.domain.auth.port.in;
 
 import com.example.saas.chatbot.domain.auth.model.AuthToken;
+import com.example.saas.chatbot.domain.auth.model.Session;
 import com.example.saas.chatbot.domain.auth.model.User;
 
+import java.util.List;
+
 public interface AuthUseCase {
     AuthToken login(String email, String password);
     User register(String email, String password);
     void logout(String accessToken, String refreshToken);
     AuthToken refresh(String refreshToken);
+    List<Session> listSessions(String email);
+    void revokeSession(String email, String sessionId);
+    void revokeAllSessions(String email);
 }
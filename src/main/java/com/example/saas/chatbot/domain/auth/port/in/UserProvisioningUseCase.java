@@ -0,0 +1,10 @@
+package com.example.saas.chatbot.domain.auth.port.in;
+
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport;
+import com.example.saas.chatbot.domain.auth.model.UserImportRow;
+
+import java.util.Iterator;
+
+public interface UserProvisioningUseCase {
+    ProvisioningReport provision(Iterator<UserImportRow> rows);
+}
@@ -0,0 +1,12 @@
+package com.example.saas.chatbot.domain.auth.port.out;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+
+/**
+ * Audit trail of authentication events. Called on the request path, so implementations must
+ * hand the event off rather than write it; {@code subject} is the user's email, or null when
+ * it is not known.
+ */
+public interface AuthAuditPort {
+    void record(AuthAuditType type, String subject);
+}
@@ -3,4 +3,5 @@ package com.example.saas.chatbot.domain.auth.port.out;
 public interface PasswordEncoderPort {
     String encode(String rawPassword);
     boolean matches(String rawPassword, String encodedPassword);
+    boolean needsRehash(String encodedPassword);
 }
@@ -1,12 +1,32 @@
 package com.example.saas.chatbot.domain.auth.port.out;
 
 import com.example.saas.chatbot.domain.auth.model.RefreshToken;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenRotation;
+import com.example.saas.chatbot.domain.auth.model.User;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 public interface RefreshTokenRepositoryPort {
     RefreshToken save(RefreshToken refreshToken);
     Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * Atomically revokes {@code presentedToken} if it is still valid and stores the successor
+     * built from its owner and session family. Returns empty when the token is unknown, revoked
+     * or expired.
+     */
+    Optional<RefreshTokenRotation> rotate(String presentedToken, BiFunction<User, String, RefreshToken> successor);
+
+    List<RefreshToken> findActiveByUserEmail(String userEmail);
+    boolean revokeFamily(String userEmail, String familyId);
     void revokeAllByUserEmail(String userEmail);
-    void deleteExpiredTokens();
+
+    /**
+     * Deletes at most {@code limit} tokens that expired before {@code expiredBefore} or were
+     * revoked before {@code revokedBefore}, returning how many were removed.
+     */
+    int deleteExpiredTokens(Instant expiredBefore, Instant revokedBefore, int limit);
 }
@@ -1,6 +1,8 @@
 package com.example.saas.chatbot.domain.auth.port.out;
 
+import java.time.Instant;
+
 public interface TokenBlacklistPort {
-    void blacklist(String token);
-    boolean isBlacklisted(String token);
+    void blacklist(String tokenId, Instant expiresAt);
+    boolean isBlacklisted(String tokenId);
 }
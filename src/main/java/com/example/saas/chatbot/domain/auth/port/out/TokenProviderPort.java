@@ -1,10 +1,12 @@
 package com.example.saas.chatbot.domain.auth.port.out;
 
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
 import com.example.saas.chatbot.domain.auth.model.User;
 
 public interface TokenProviderPort {
     String generateAccessToken(User user);
     String generateRefreshToken(User user);
+    TokenVerification verify(String token);
     String extractEmail(String token);
     boolean isTokenValid(String token);
     boolean isTokenExpired(String token);
@@ -0,0 +1,15 @@
+package com.example.saas.chatbot.domain.auth.port.out;
+
+import com.example.saas.chatbot.domain.auth.model.User;
+
+import java.util.List;
+
+public interface UserBulkRepositoryPort {
+
+    /**
+     * Inserts the users in one batch, skipping emails that are already registered.
+     *
+     * @return for each user, in order, whether it was inserted
+     */
+    boolean[] insertIgnoringExisting(List<User> users);
+}
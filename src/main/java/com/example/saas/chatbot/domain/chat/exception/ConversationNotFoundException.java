@@ -0,0 +1,10 @@
+package com.example.saas.chatbot.domain.chat.exception;
+
+import com.example.saas.chatbot.domain.shared.exception.DomainException;
+
+public class ConversationNotFoundException extends DomainException {
+
+    public ConversationNotFoundException(String conversationId) {
+        super("Conversation not found: " + conversationId);
+    }
+}
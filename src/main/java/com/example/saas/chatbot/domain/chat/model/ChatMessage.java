@@ -0,0 +1,10 @@
+package com.example.saas.chatbot.domain.chat.model;
+
+import java.time.Instant;
+
+/**
+ * One turn of a conversation. {@code sequence} numbers the conversation's messages from 1 in the
+ * order they were appended.
+ */
+public record ChatMessage(String conversationId, long sequence, MessageRole role, String content, Instant createdAt) {
+}
@@ -0,0 +1,15 @@
+package com.example.saas.chatbot.domain.chat.model;
+
+import java.time.Duration;
+
+/**
+ * A streamed assistant reply once it is stored, with how it was delivered: the time until the
+ * provider produced its first token and the time for the whole reply.
+ */
+public record ChatReply(ChatMessage message, int tokens, Duration timeToFirstToken, Duration duration) {
+
+    public double tokensPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : tokens * 1_000_000_000.0 / nanos;
+    }
+}
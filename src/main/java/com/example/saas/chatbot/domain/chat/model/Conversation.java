@@ -0,0 +1,15 @@
+package com.example.saas.chatbot.domain.chat.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record Conversation(String id, String ownerEmail, String title, Instant createdAt) {
+
+    public static Conversation start(String ownerEmail, String title) {
+        return new Conversation(UUID.randomUUID().toString(), ownerEmail, title, Instant.now());
+    }
+
+    public boolean isOwnedBy(String email) {
+        return ownerEmail.equals(email);
+    }
+}
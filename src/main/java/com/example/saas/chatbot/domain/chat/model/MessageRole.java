@@ -0,0 +1,6 @@
+package com.example.saas.chatbot.domain.chat.model;
+
+public enum MessageRole {
+    USER,
+    ASSISTANT
+}
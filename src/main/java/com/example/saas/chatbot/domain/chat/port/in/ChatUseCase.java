@@ -0,0 +1,26 @@
+package com.example.saas.chatbot.domain.chat.port.in;
+
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.ChatReply;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ChatUseCase {
+    Conversation startConversation(String ownerEmail, String title);
+    List<ChatMessage> history(String ownerEmail, String conversationId);
+
+    /**
+     * Stores the user's message. A conversation that does not exist or belongs to someone else
+     * is reported as {@code ConversationNotFoundException}.
+     */
+    ChatMessage postMessage(String ownerEmail, String conversationId, String content);
+
+    /**
+     * Generates the assistant's answer to the conversation so far, handing each token to
+     * {@code onToken} as the provider produces it, and stores the complete reply. Blocks until
+     * the reply is done; an exception thrown by {@code onToken} abandons it unstored.
+     */
+    ChatReply streamReply(String ownerEmail, String conversationId, Consumer<String> onToken);
+}
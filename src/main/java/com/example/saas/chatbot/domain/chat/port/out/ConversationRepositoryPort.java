@@ -0,0 +1,26 @@
+package com.example.saas.chatbot.domain.chat.port.out;
+
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface ConversationRepositoryPort {
+    Conversation save(Conversation conversation);
+    Optional<Conversation> findById(String conversationId);
+
+    /**
+     * Stores a message with the conversation's next sequence number. The write may happen after
+     * this returns: the future completes with the numbered message once it is durable, or fails
+     * if it could not be stored. Callers that only need the message accepted can ignore it.
+     */
+    CompletableFuture<ChatMessage> appendMessage(String conversationId, MessageRole role, String content);
+
+    /**
+     * The latest {@code limit} messages, oldest first.
+     */
+    List<ChatMessage> findRecentMessages(String conversationId, int limit);
+}
@@ -0,0 +1,17 @@
+package com.example.saas.chatbot.domain.chat.port.out;
+
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface LlmProviderPort {
+
+    /**
+     * Generates the next assistant message for {@code conversation}, calling {@code onToken} on
+     * the caller's thread for each token in order, and returns once the last one was delivered.
+     * A slow {@code onToken} slows generation down, and an exception from it stops generation
+     * and propagates.
+     */
+    void streamReply(List<ChatMessage> conversation, Consumer<String> onToken);
+}
@@ -5,4 +5,13 @@ public class DomainException extends RuntimeException {
     public DomainException(String message) {
         super(message);
     }
+
+    /**
+     * For failures that are expected in volume, such as rejected credentials or tokens, and
+     * always handled: with {@code stackless} the exception neither captures a stack trace nor
+     * records suppressed exceptions, which makes throwing it about as cheap as returning.
+     */
+    protected DomainException(String message, boolean stackless) {
+        super(message, null, !stackless, !stackless);
+    }
 }
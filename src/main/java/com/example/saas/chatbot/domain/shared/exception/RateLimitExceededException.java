@@ -0,0 +1,15 @@
+package com.example.saas.chatbot.domain.shared.exception;
+
+public class RateLimitExceededException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, true);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.application.shared.dto.ApiResponse;
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport;
+import com.example.saas.chatbot.domain.auth.model.UserImportRow;
+import com.example.saas.chatbot.domain.auth.port.in.UserProvisioningUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final UserProvisioningUseCase userProvisioningUseCase;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/bulk", consumes = {TEXT_CSV, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> bulkProvision(HttpServletRequest request) throws IOException {
+        try {
+            Iterator<UserImportRow> rows = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON)
+                    ? UserImportReader.json(request.getInputStream(), objectMapper)
+                    : UserImportReader.csv(request.getInputStream());
+            ProvisioningReport report = userProvisioningUseCase.provision(rows);
+            return ResponseEntity.ok(AuthResponse.ProvisioningReportView.from(report));
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            // rows in batches completed before the malformed record stay created
+            return ResponseEntity
+                    .badRequest()
+                    .body(ApiResponse.error("admin/malformed-import", "Malformed Import", 400, e.getMessage()));
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.saas.chatbot.infrastructure.auth.adapter.in;
 
 import com.example.saas.chatbot.application.shared.dto.ApiResponse;
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
 import com.example.saas.chatbot.domain.auth.model.AuthToken;
 import com.example.saas.chatbot.domain.auth.model.User;
 import com.example.saas.chatbot.domain.auth.port.in.AuthUseCase;
+import com.example.saas.chatbot.infrastructure.auth.security.AuthRateLimiter;
 import com.example.saas.chatbot.infrastructure.auth.security.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,14 +13,19 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthUseCase authUseCase;
+    private final AuthRateLimiter rateLimiter;
+    private final ResponseBodies responseBodies;
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse> register(@Valid @RequestBody AuthRequest.RequestRegisterAndLogin request) {
@@ -29,17 +36,19 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse> login(@Valid @RequestBody AuthRequest.RequestRegisterAndLogin request,
-                                             HttpServletResponse response) {
+    public ResponseEntity<byte[]> login(@Valid @RequestBody AuthRequest.RequestRegisterAndLogin request,
+                                        HttpServletRequest httpRequest,
+                                        HttpServletResponse response) {
+        rateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.email());
         AuthToken authToken = authUseCase.login(request.email(), request.password());
         CookieUtil.addAccessTokenCookie(response, authToken.getAccessToken());
         CookieUtil.addRefreshTokenCookie(response, authToken.getRefreshToken());
-        return ResponseEntity.ok(ApiResponse.success(200, "Login Successful", "Authentication completed"));
+        return responseBodies.success(HttpStatus.OK, "Login Successful", "Authentication completed");
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse> logout(HttpServletRequest request,
-                                              HttpServletResponse response) {
+    public ResponseEntity<byte[]> logout(HttpServletRequest request,
+                                         HttpServletResponse response) {
         String accessToken = extractAccessToken(request);
         String refreshToken = CookieUtil.extractRefreshTokenFromCookies(request.getCookies());
 
@@ -48,7 +57,29 @@ public class AuthController {
         }
 
         CookieUtil.clearCookies(response);
-        return ResponseEntity.ok(ApiResponse.success(200, "Logout Successful", "Session terminated"));
+        return responseBodies.success(HttpStatus.OK, "Logout Successful", "Session terminated");
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<List<AuthResponse.SessionView>> sessions(Authentication authentication) {
+        List<AuthResponse.SessionView> sessions = authUseCase.listSessions(authentication.getName()).stream()
+                .map(AuthResponse.SessionView::from)
+                .toList();
+        return ResponseEntity.ok(sessions);
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<ApiResponse> revokeSession(@PathVariable String sessionId, Authentication authentication) {
+        authUseCase.revokeSession(authentication.getName(), sessionId);
+        return ResponseEntity.ok(ApiResponse.success(200, "Session Revoked", "Session " + sessionId + " signed out"));
+    }
+
+    @DeleteMapping("/sessions")
+    public ResponseEntity<byte[]> revokeAllSessions(Authentication authentication,
+                                                   HttpServletResponse response) {
+        authUseCase.revokeAllSessions(authentication.getName());
+        CookieUtil.clearCookies(response);
+        return responseBodies.success(HttpStatus.OK, "Sessions Revoked", "All sessions signed out");
     }
 
     private String extractAccessToken(HttpServletRequest request) {
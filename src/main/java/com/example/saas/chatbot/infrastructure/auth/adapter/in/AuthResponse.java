@@ -0,0 +1,43 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport;
+import com.example.saas.chatbot.domain.auth.model.Session;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+public class AuthResponse {
+    public record SessionView(
+            String id,
+            Instant lastRefreshedAt,
+            Instant expiresAt
+    ) {
+        public static SessionView from(Session session) {
+            return new SessionView(session.id(), session.lastRefreshedAt(), session.expiresAt());
+        }
+    }
+
+    public record ProvisioningReportView(
+            int total,
+            int created,
+            int duplicates,
+            int invalid,
+            List<RowView> rows
+    ) {
+        public static ProvisioningReportView from(ProvisioningReport report) {
+            List<RowView> rows = report.rows().stream()
+                    .map(row -> new RowView(row.line(), row.email(), row.status().name(), row.detail()))
+                    .toList();
+            return new ProvisioningReportView(report.total(), report.created(), report.duplicates(), report.invalid(), rows);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RowView(
+            int line,
+            String email,
+            String status,
+            String detail
+    ) {}
+}
@@ -0,0 +1,131 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.infrastructure.auth.security.SigningKeyRing;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the public halves of the signing key ring so other services can verify access
+ * tokens locally. The document is rendered once per key set and served with a strong ETag
+ * derived from its content, so every node answers conditional requests the same way.
+ */
+@RestController
+public class JwksController {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private final ObjectProvider<SigningKeyRing> keyRing;
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+
+    private volatile Rendered rendered;
+
+    public JwksController(ObjectProvider<SigningKeyRing> keyRing,
+                          ObjectMapper objectMapper,
+                          @Value("${jwt.signing.jwks-max-age:5m}") Duration maxAge) {
+        this.keyRing = keyRing;
+        this.objectMapper = objectMapper;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws JsonProcessingException {
+        SigningKeyRing ring = keyRing.getIfAvailable();
+        if (ring == null) {
+            // HMAC signing has no public key to publish
+            return ResponseEntity.notFound().build();
+        }
+
+        Rendered current = render(ring);
+        if (matches(ifNoneMatch, current.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(current.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(current.etag())
+                .cacheControl(cacheControl)
+                .body(current.body());
+    }
+
+    // RFC 9110 13.1.2: a list of tags or "*", compared weakly, so a W/ prefix added by a proxy still matches
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Rendered render(SigningKeyRing ring) throws JsonProcessingException {
+        Rendered current = rendered;
+        long version = ring.version();
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        List<Map<String, String>> keys = new ArrayList<>();
+        ring.publicKeys().forEach((kid, key) -> keys.add(jwk(kid, key)));
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+
+        current = new Rendered(version, etag, body);
+        rendered = current;
+        return current;
+    }
+
+    private static Map<String, String> jwk(String kid, ECPublicKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    // RFC 7518 6.2.1.2: fixed length, big-endian, without the sign byte BigInteger may add
+    private static String coordinate(BigInteger value) {
+        byte[] raw = value.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(raw.length, P256_COORDINATE_BYTES);
+        System.arraycopy(raw, raw.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+        return BASE64URL.encodeToString(fixed);
+    }
+
+    private record Rendered(long version, String etag, byte[] body) {
+    }
+}
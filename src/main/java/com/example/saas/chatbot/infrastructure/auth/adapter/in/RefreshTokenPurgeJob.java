@@ -0,0 +1,87 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.domain.auth.port.out.RefreshTokenRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes expired and long-revoked refresh tokens in bounded batches. Each batch is its own
+ * short transaction, with a pause in between, so the purge never holds locks for long or writes
+ * a burst of WAL, and a single run stops after {@code max-batches}.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepositoryPort refreshTokenRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+    private final Duration revokedRetention;
+    private final Counter purged;
+    private final Timer duration;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepositoryPort refreshTokenRepository,
+                                @Value("${auth.refresh-token.purge.batch-size:1000}") int batchSize,
+                                @Value("${auth.refresh-token.purge.max-batches:500}") int maxBatches,
+                                @Value("${auth.refresh-token.purge.pause:200ms}") Duration pause,
+                                @Value("${auth.refresh-token.purge.revoked-retention:1d}") Duration revokedRetention,
+                                MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+        this.revokedRetention = revokedRetention;
+        this.purged = Counter.builder("auth.refresh_tokens.purged")
+                .description("Refresh token rows deleted by the purge job")
+                .register(meterRegistry);
+        this.duration = Timer.builder("auth.refresh_tokens.purge.duration")
+                .description("Duration of a complete purge run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.purge.cron:0 */15 * * * *}")
+    public void purge() {
+        duration.record(() -> {
+            run();
+        });
+    }
+
+    int run() {
+        Instant now = Instant.now();
+        Instant revokedBefore = now.minus(revokedRetention);
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = refreshTokenRepository.deleteExpiredTokens(now, revokedBefore, batchSize);
+            total += deleted;
+            purged.increment(deleted);
+            if (deleted < batchSize || !sleep()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Purged {} expired or revoked refresh tokens", total);
+        }
+        return total;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
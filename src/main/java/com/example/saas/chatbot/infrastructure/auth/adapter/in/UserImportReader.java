@@ -0,0 +1,155 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.domain.auth.model.UserImportRow;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a provisioning upload one record at a time, so the request body is never held in
+ * memory as a whole.
+ *
+ * <p>CSV needs a header naming its columns ({@code email}, {@code password} or
+ * {@code passwordHash}, optional {@code role}); fields may be double-quoted. JSON is an array of
+ * objects with the same property names.
+ */
+final class UserImportReader {
+
+    private UserImportReader() {}
+
+    static Iterator<UserImportRow> csv(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            return List.<UserImportRow>of().iterator();
+        }
+
+        List<String> columns = splitCsv(header.strip().toLowerCase(Locale.ROOT));
+        int email = columns.indexOf("email");
+        int password = columns.indexOf("password");
+        int passwordHash = columns.indexOf("passwordhash");
+        int role = columns.indexOf("role");
+        if (email < 0 || (password < 0 && passwordHash < 0)) {
+            throw new IllegalArgumentException("CSV header must name email and password or passwordHash");
+        }
+
+        return new Iterator<>() {
+            private int line = 1;
+            private String next = advance();
+
+            private String advance() {
+                try {
+                    String candidate;
+                    do {
+                        candidate = reader.readLine();
+                        line++;
+                    } while (candidate != null && candidate.isBlank());
+                    return candidate;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public UserImportRow next() {
+                if (next == null) throw new NoSuchElementException();
+                List<String> fields = splitCsv(next);
+                UserImportRow row = new UserImportRow(line, field(fields, email), field(fields, password),
+                        field(fields, passwordHash), field(fields, role));
+                next = advance();
+                return row;
+            }
+        };
+    }
+
+    static Iterator<UserImportRow> json(InputStream body, ObjectMapper objectMapper) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(body);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("JSON body must be an array of users");
+        }
+
+        return new Iterator<>() {
+            private int index = 0;
+            private JsonToken token = advance();
+
+            private JsonToken advance() {
+                try {
+                    return parser.nextToken();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return token == JsonToken.START_OBJECT;
+            }
+
+            @Override
+            public UserImportRow next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                try {
+                    JsonRow row = parser.readValueAs(JsonRow.class);
+                    token = advance();
+                    return new UserImportRow(++index, row.email(), row.password(), row.passwordHash(), row.role());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) return null;
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    record JsonRow(String email, String password, String passwordHash, String role) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through cache in front of another {@link UserRepositoryPort}, keyed by email.
+ *
+ * <p>Unknown emails are cached too, for a shorter TTL, so repeated lookups of a missing account
+ * do not reach the database either. Concurrent misses for the same email share one load. Writes
+ * go to the delegate first and then drop the cached entry. Entries holding a user, and with it
+ * the password hash, never outlive {@code passwordTtl}.
+ */
+public class CachingUserRepository implements UserRepositoryPort {
+
+    private final UserRepositoryPort delegate;
+    private final int maxSize;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, CompletableFuture<Entry>> cache = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter evictions;
+
+    public CachingUserRepository(UserRepositoryPort delegate, int maxSize, Duration ttl, Duration negativeTtl,
+                                 Duration passwordTtl, MeterRegistry meterRegistry) {
+        this(delegate, maxSize, ttl, negativeTtl, passwordTtl, meterRegistry, System::nanoTime);
+    }
+
+    CachingUserRepository(UserRepositoryPort delegate, int maxSize, Duration ttl, Duration negativeTtl,
+                          Duration passwordTtl, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.positiveTtlNanos = Math.min(ttl.toNanos(), passwordTtl.toNanos());
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.nanoClock = nanoClock;
+
+        this.hits = Counter.builder("auth.user.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("auth.user.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("auth.user.cache")
+                .tag("result", "coalesced")
+                .description("Lookups that waited for a load already in flight")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("auth.user.cache.evictions")
+                .register(meterRegistry);
+        Gauge.builder("auth.user.cache.size", cache, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("auth.user.cache.hit.ratio", this, CachingUserRepository::hitRatio)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidate(user.getEmail());
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return lookup(email).user();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return lookup(email).user().isPresent();
+    }
+
+    @Override
+    public void updatePassword(String email, String encodedPassword) {
+        delegate.updatePassword(email, encodedPassword);
+        invalidate(email);
+    }
+
+    public void invalidate(String email) {
+        cache.remove(email);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.user-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        cache.values().removeIf(future -> {
+            Entry entry = future.getNow(null);
+            if (entry == null || entry.isFresh(now)) return false;
+            evictions.increment();
+            return true;
+        });
+    }
+
+    private Entry lookup(String email) {
+        while (true) {
+            CompletableFuture<Entry> current = cache.get(email);
+            if (current == null) {
+                CompletableFuture<Entry> load = new CompletableFuture<>();
+                if (cache.putIfAbsent(email, load) == null) {
+                    return load(email, load);
+                }
+                continue;
+            }
+            if (!current.isDone()) {
+                coalesced.increment();
+                return await(current);
+            }
+
+            Entry entry = current.getNow(null);
+            if (entry != null && entry.isFresh(nanoClock.getAsLong())) {
+                hits.increment();
+                return entry;
+            }
+            CompletableFuture<Entry> load = new CompletableFuture<>();
+            if (cache.replace(email, current, load)) {
+                return load(email, load);
+            }
+        }
+    }
+
+    private Entry load(String email, CompletableFuture<Entry> load) {
+        misses.increment();
+        Entry entry;
+        try {
+            Optional<User> user = delegate.findByEmail(email);
+            long ttl = user.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+            entry = new Entry(user, nanoClock.getAsLong() + ttl);
+        } catch (RuntimeException e) {
+            cache.remove(email, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+
+        load.complete(entry);
+        if (cache.size() > maxSize) {
+            evict();
+        }
+        return entry;
+    }
+
+    private void evict() {
+        // same approach as the token cache: drop about a tenth in hash order instead of tracking recency
+        int toEvict = Math.max(1, maxSize / 10);
+        Iterator<CompletableFuture<Entry>> entries = cache.values().iterator();
+        while (toEvict > 0 && entries.hasNext()) {
+            if (entries.next().isDone()) {
+                entries.remove();
+                evictions.increment();
+                toEvict--;
+            }
+        }
+    }
+
+    private double hitRatio() {
+        double lookups = hits.count() + misses.count() + coalesced.count();
+        return lookups == 0 ? 0 : (hits.count() + coalesced.count()) / lookups;
+    }
+
+    private static Entry await(CompletableFuture<Entry> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(Optional<User> user, long expiresAtNanos) {
+
+        boolean isFresh(long now) {
+            return expiresAtNanos - now > 0;
+        }
+    }
+}
@@ -6,7 +6,12 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id, revoked"),
+        @Index(name = "idx_refresh_tokens_user", columnList = "user_email, revoked"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_revoked_at", columnList = "revoked_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,15 +23,30 @@ public class RefreshTokenEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 512)
+    // legacy JWT refresh tokens, stored verbatim
+    @Column(unique = true, length = 512)
     private String token;
 
+    // opaque refresh tokens, stored only as their SHA-256 digest
+    @Column(name = "token_hash", unique = true, length = 32)
+    private byte[] tokenHash;
+
     @Column(name = "user_email", nullable = false)
     private String userEmail;
 
+    // one family per login; rotation keeps the family, so each family has a single active row
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
+    @Column(name = "issued_at")
+    private Instant issuedAt;
+
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
 
     @Column(nullable = false)
     private boolean revoked;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
 }
@@ -6,17 +6,25 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, Long> {
 
     Optional<RefreshTokenEntity> findByToken(String token);
 
+    Optional<RefreshTokenEntity> findByTokenHash(byte[] tokenHash);
+
+    @Query("SELECT r FROM RefreshTokenEntity r WHERE r.userEmail = :userEmail AND r.revoked = false AND r.expiresAt > :now")
+    List<RefreshTokenEntity> findActiveByUserEmail(@Param("userEmail") String userEmail, @Param("now") Instant now);
+
     @Modifying
-    @Query("UPDATE RefreshTokenEntity r SET r.revoked = true WHERE r.userEmail = :userEmail AND r.revoked = false")
-    void revokeAllByUserEmail(@Param("userEmail") String userEmail);
+    @Query("UPDATE RefreshTokenEntity r SET r.revoked = true, r.revokedAt = :now"
+            + " WHERE r.familyId = :familyId AND r.userEmail = :userEmail AND r.revoked = false")
+    int revokeFamily(@Param("userEmail") String userEmail, @Param("familyId") String familyId, @Param("now") Instant now);
 
     @Modifying
-    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt < :now")
-    void deleteExpiredTokens(@Param("now") Instant now);
+    @Query("UPDATE RefreshTokenEntity r SET r.revoked = true, r.revokedAt = :now"
+            + " WHERE r.userEmail = :userEmail AND r.revoked = false")
+    void revokeAllByUserEmail(@Param("userEmail") String userEmail, @Param("now") Instant now);
 }
@@ -1,25 +1,60 @@
 package com.example.saas.chatbot.infrastructure.auth.adapter.out;
 
 import com.example.saas.chatbot.domain.auth.model.RefreshToken;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenFormat;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenRotation;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
 import com.example.saas.chatbot.domain.auth.port.out.RefreshTokenRepositoryPort;
+import com.example.saas.chatbot.domain.shared.security.TokenDigests;
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaReads;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
 
 @Component
 @RequiredArgsConstructor
 public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
 
+    private static final RowMapper<Consumed> CONSUMED_MAPPER = (rs, rowNum) -> new Consumed(
+            User.builder()
+                    .id(rs.getLong("id"))
+                    .email(rs.getString("email"))
+                    .role(Role.valueOf(rs.getString("role")))
+                    .build(),
+            rs.getString("family_id"));
+
     private final RefreshTokenJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReplicaReads replicaReads;
+
+    private volatile Boolean postgres;
 
     @Override
     public RefreshToken save(RefreshToken refreshToken) {
-        RefreshTokenEntity entity = RefreshTokenEntity.builder()
-                .token(refreshToken.getToken())
+        RefreshTokenEntity.RefreshTokenEntityBuilder builder = RefreshTokenEntity.builder();
+        if (RefreshTokenFormat.of(refreshToken.getToken()) == RefreshTokenFormat.OPAQUE) {
+            builder.tokenHash(TokenDigests.sha256(refreshToken.getToken()));
+        } else {
+            builder.token(refreshToken.getToken());
+        }
+
+        RefreshTokenEntity entity = builder
                 .userEmail(refreshToken.getUserEmail())
+                .familyId(refreshToken.getFamilyId())
+                .issuedAt(refreshToken.getIssuedAt())
                 .expiresAt(refreshToken.getExpiresAt())
                 .revoked(refreshToken.isRevoked())
                 .build();
@@ -30,19 +65,113 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort
 
     @Override
     public Optional<RefreshToken> findByToken(String token) {
-        return jpaRepository.findByToken(token).map(this::toDomain);
+        // logout revokes the family it finds here, so a token rotated a moment ago must still be found
+        if (RefreshTokenFormat.of(token) == RefreshTokenFormat.OPAQUE) {
+            byte[] tokenHash = TokenDigests.sha256(token);
+            return replicaReads.find(() -> jpaRepository.findByTokenHash(tokenHash)).map(this::toDomain);
+        }
+        return replicaReads.find(() -> jpaRepository.findByToken(token)).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public Optional<RefreshTokenRotation> rotate(String presentedToken,
+                                                 BiFunction<User, String, RefreshToken> successor) {
+        boolean opaque = RefreshTokenFormat.of(presentedToken) == RefreshTokenFormat.OPAQUE;
+        String column = opaque ? "token_hash" : "token";
+        Object key = opaque ? TokenDigests.sha256(presentedToken) : presentedToken;
+        Timestamp now = Timestamp.from(Instant.now());
+
+        Optional<Consumed> consumed = isPostgres()
+                ? consumeReturningOwner(column, key, now)
+                : consumeThenLoadOwner(column, key, now);
+
+        return consumed.map(c -> {
+            // rows issued before session families existed start one on their first rotation
+            String familyId = c.familyId() != null ? c.familyId() : UUID.randomUUID().toString();
+            RefreshToken next = successor.apply(c.owner(), familyId);
+            insert(next);
+            return new RefreshTokenRotation(c.owner(), next);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RefreshToken> findActiveByUserEmail(String userEmail) {
+        return jpaRepository.findActiveByUserEmail(userEmail, Instant.now()).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean revokeFamily(String userEmail, String familyId) {
+        return jpaRepository.revokeFamily(userEmail, familyId, Instant.now()) > 0;
     }
 
     @Override
     @Transactional
     public void revokeAllByUserEmail(String userEmail) {
-        jpaRepository.revokeAllByUserEmail(userEmail);
+        jpaRepository.revokeAllByUserEmail(userEmail, Instant.now());
     }
 
     @Override
     @Transactional
-    public void deleteExpiredTokens() {
-        jpaRepository.deleteExpiredTokens(Instant.now());
+    public int deleteExpiredTokens(Instant expiredBefore, Instant revokedBefore, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM refresh_tokens WHERE id IN (SELECT id FROM refresh_tokens"
+                        + " WHERE expires_at < ? OR (revoked = true AND revoked_at < ?) LIMIT ?)",
+                Timestamp.from(expiredBefore), Timestamp.from(revokedBefore), limit);
+    }
+
+    // PostgreSQL: the conditional revoke and the owner lookup are one statement
+    private Optional<Consumed> consumeReturningOwner(String column, Object key, Timestamp now) {
+        List<Consumed> consumed = jdbcTemplate.query(
+                "UPDATE refresh_tokens r SET revoked = true, revoked_at = ? FROM users u"
+                        + " WHERE r." + column + " = ? AND r.revoked = false AND r.expires_at > ?"
+                        + " AND u.email = r.user_email"
+                        + " RETURNING u.id, u.email, u.role, r.family_id",
+                CONSUMED_MAPPER, now, key, now);
+        return consumed.stream().findFirst();
+    }
+
+    // Portable fallback (H2 in tests): the conditional revoke still decides the winner atomically
+    private Optional<Consumed> consumeThenLoadOwner(String column, Object key, Timestamp now) {
+        int revoked = jdbcTemplate.update(
+                "UPDATE refresh_tokens SET revoked = true, revoked_at = ?"
+                        + " WHERE " + column + " = ? AND revoked = false AND expires_at > ?",
+                now, key, now);
+        if (revoked == 0) {
+            return Optional.empty();
+        }
+        List<Consumed> consumed = jdbcTemplate.query(
+                "SELECT u.id, u.email, u.role, r.family_id FROM users u JOIN refresh_tokens r ON u.email = r.user_email"
+                        + " WHERE r." + column + " = ?",
+                CONSUMED_MAPPER, key);
+        return consumed.stream().findFirst();
+    }
+
+    private void insert(RefreshToken refreshToken) {
+        boolean opaque = RefreshTokenFormat.of(refreshToken.getToken()) == RefreshTokenFormat.OPAQUE;
+        jdbcTemplate.update(
+                "INSERT INTO refresh_tokens (token, token_hash, user_email, family_id, issued_at, expires_at, revoked)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, false)",
+                new SqlParameterValue(Types.VARCHAR, opaque ? null : refreshToken.getToken()),
+                new SqlParameterValue(Types.BINARY, opaque ? TokenDigests.sha256(refreshToken.getToken()) : null),
+                refreshToken.getUserEmail(),
+                refreshToken.getFamilyId(),
+                Timestamp.from(refreshToken.getIssuedAt()),
+                Timestamp.from(refreshToken.getExpiresAt()));
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
     }
 
     private RefreshToken toDomain(RefreshTokenEntity entity) {
@@ -50,8 +179,13 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort
                 entity.getId(),
                 entity.getToken(),
                 entity.getUserEmail(),
+                entity.getFamilyId(),
+                entity.getIssuedAt(),
                 entity.getExpiresAt(),
                 entity.isRevoked()
         );
     }
+
+    private record Consumed(User owner, String familyId) {
+    }
 }
@@ -0,0 +1,121 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
+import com.example.saas.chatbot.infrastructure.auth.security.InMemoryTokenBlacklist;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cluster-wide blacklist: revocations are written to the {@code revoked_tokens} table and every
+ * node replicates new rows into a local {@link InMemoryTokenBlacklist} by polling past a
+ * high-water mark on the row id. Request-time checks only read the local replica.
+ *
+ * <p>Identity values are assigned before commit, so a row can become visible after a higher id
+ * was already replicated. Each poll therefore also re-reads rows revoked within the last
+ * {@code straggler window}, which the replica absorbs idempotently.
+ */
+@Slf4j
+public class ReplicatedTokenBlacklistAdapter implements TokenBlacklistPort {
+
+    private final RevokedTokenJpaRepository jpaRepository;
+    private final InMemoryTokenBlacklist replica;
+    private final int batchSize;
+    private final Duration stragglerWindow;
+    private final Timer replicationDelay;
+
+    private volatile long highWaterMark;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public ReplicatedTokenBlacklistAdapter(RevokedTokenJpaRepository jpaRepository,
+                                           InMemoryTokenBlacklist replica,
+                                           int batchSize,
+                                           Duration stragglerWindow,
+                                           MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.replica = replica;
+        this.batchSize = batchSize;
+        this.stragglerWindow = stragglerWindow;
+        this.replicationDelay = Timer.builder("jwt.blacklist.replication.delay")
+                .description("Time between a revocation being written and this node applying it")
+                .register(meterRegistry);
+        Gauge.builder("jwt.blacklist.replication.lag", this, adapter -> adapter.replicationLag().toMillis())
+                .description("Milliseconds since this node last caught up with the revoked_tokens table")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void blacklist(String tokenId, Instant expiresAt) {
+        replica.blacklist(tokenId, expiresAt);
+        try {
+            jpaRepository.save(RevokedTokenEntity.builder()
+                    .tokenId(tokenId)
+                    .expiresAt(expiresAt)
+                    .revokedAt(Instant.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // already revoked by a concurrent logout on this or another node
+        }
+    }
+
+    @Override
+    public boolean isBlacklisted(String tokenId) {
+        return replica.isBlacklisted(tokenId);
+    }
+
+    public Duration replicationLag() {
+        return Duration.between(lastSync, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.poll-interval-ms:1000}")
+    public void poll() {
+        Instant startedAt = Instant.now();
+        try {
+            long mark = highWaterMark;
+            List<RevokedTokenEntity> batch;
+            do {
+                batch = jpaRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(mark, startedAt, Limit.of(batchSize));
+                for (RevokedTokenEntity entity : batch) {
+                    apply(entity, startedAt);
+                    mark = entity.getId();
+                }
+            } while (batch.size() == batchSize);
+
+            for (RevokedTokenEntity entity : jpaRepository.findByIdLessThanEqualAndRevokedAtAfter(mark, startedAt.minus(stragglerWindow))) {
+                replica.blacklist(entity.getTokenId(), entity.getExpiresAt());
+            }
+
+            highWaterMark = mark;
+            lastSync = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("Token blacklist replication failed, local replica is {} ms behind", replicationLag().toMillis(), e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void evictExpired() {
+        replica.evictExpired();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        jpaRepository.deleteExpired(Instant.now());
+    }
+
+    private void apply(RevokedTokenEntity entity, Instant now) {
+        replica.blacklist(entity.getTokenId(), entity.getExpiresAt());
+        Duration delay = Duration.between(entity.getRevokedAt(), now);
+        if (!delay.isNegative()) {
+            replicationDelay.record(delay);
+        }
+    }
+}
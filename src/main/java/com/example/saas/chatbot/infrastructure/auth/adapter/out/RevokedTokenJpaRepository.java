@@ -0,0 +1,23 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    List<RevokedTokenEntity> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long id, Instant now, Limit limit);
+
+    List<RevokedTokenEntity> findByIdLessThanEqualAndRevokedAtAfter(Long id, Instant since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
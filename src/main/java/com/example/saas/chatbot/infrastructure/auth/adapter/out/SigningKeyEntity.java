@@ -0,0 +1,39 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "jwt_signing_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SigningKeyEntity {
+
+    @Id
+    @Column(length = 32)
+    private String kid;
+
+    @Column(nullable = false, length = 16)
+    private String algorithm;
+
+    @Column(name = "public_key", nullable = false, length = 512)
+    private byte[] publicKey;
+
+    // AES-GCM sealed PKCS#8, see SigningKeyRing
+    @Column(name = "private_key", nullable = false, length = 512)
+    private byte[] privateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "activates_at", nullable = false)
+    private Instant activatesAt;
+
+    @Column(name = "retired_at")
+    private Instant retiredAt;
+}
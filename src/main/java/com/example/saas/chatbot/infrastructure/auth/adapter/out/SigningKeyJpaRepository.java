@@ -0,0 +1,22 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface SigningKeyJpaRepository extends JpaRepository<SigningKeyEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SigningKeyEntity k SET k.retiredAt = :now WHERE k.retiredAt IS NULL AND k.activatesAt < :activatedBefore")
+    int retireActivatedBefore(@Param("activatedBefore") Instant activatedBefore, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SigningKeyEntity k WHERE k.retiredAt < :retiredBefore")
+    int deleteRetiredBefore(@Param("retiredBefore") Instant retiredBefore);
+}
@@ -0,0 +1,46 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.infrastructure.auth.security.SigningKeyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SigningKeyStoreAdapter implements SigningKeyStore {
+
+    private final SigningKeyJpaRepository jpaRepository;
+
+    @Override
+    public List<StoredKey> findAll() {
+        return jpaRepository.findAll().stream()
+                .map(entity -> new StoredKey(entity.getKid(), entity.getAlgorithm(), entity.getPublicKey(),
+                        entity.getPrivateKey(), entity.getCreatedAt(), entity.getActivatesAt(), entity.getRetiredAt()))
+                .toList();
+    }
+
+    @Override
+    public void save(StoredKey key) {
+        jpaRepository.save(SigningKeyEntity.builder()
+                .kid(key.kid())
+                .algorithm(key.algorithm())
+                .publicKey(key.publicKey())
+                .privateKey(key.encryptedPrivateKey())
+                .createdAt(key.createdAt())
+                .activatesAt(key.activatesAt())
+                .retiredAt(key.retiredAt())
+                .build());
+    }
+
+    @Override
+    public void retireActivatedBefore(Instant activatedBefore, Instant now) {
+        jpaRepository.retireActivatedBefore(activatedBefore, now);
+    }
+
+    @Override
+    public int deleteRetiredBefore(Instant retiredBefore) {
+        return jpaRepository.deleteRetiredBefore(retiredBefore);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.UserBulkRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Batch inserts for bulk provisioning, bypassing JPA. Ids come from {@code users_seq} in blocks of
+ * {@link UserEntity#ID_ALLOCATION_SIZE}, the same pooled scheme Hibernate uses for
+ * {@link UserEntity}, so one sequence call covers up to fifty rows.
+ *
+ * <p>Existing emails are found with plain JDBC, so a user saved through JPA but not yet flushed
+ * in the same transaction is not seen: sequence ids let Hibernate defer that insert until flush.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBulkInsertAdapter implements UserBulkRepositoryPort {
+
+    private static final String INSERT = "INSERT INTO users (id, email, password, role) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    @Override
+    @Transactional
+    public boolean[] insertIgnoringExisting(List<User> users) {
+        long[] ids = allocateIds(users.size());
+        return isPostgres() ? insertOnConflictDoNothing(users, ids) : insertNew(users, ids);
+    }
+
+    // PostgreSQL: the whole batch is one statement over arrays, and RETURNING names the rows that
+    // went in, which stays exact even when the driver rewrites batches and reports no update counts
+    private boolean[] insertOnConflictDoNothing(List<User> users, long[] ids) {
+        Long[] idColumn = new Long[users.size()];
+        String[] emails = new String[users.size()];
+        String[] passwords = new String[users.size()];
+        String[] roles = new String[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            idColumn[i] = ids[i];
+            emails[i] = user.getEmail();
+            passwords[i] = user.getPassword();
+            roles[i] = user.getRole().name();
+        }
+
+        Set<String> created = new HashSet<>(jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (id, email, password, role)"
+                            + " SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[])"
+                            + " ON CONFLICT (email) DO NOTHING RETURNING email")) {
+                ps.setArray(1, connection.createArrayOf("bigint", idColumn));
+                ps.setArray(2, connection.createArrayOf("varchar", emails));
+                ps.setArray(3, connection.createArrayOf("varchar", passwords));
+                ps.setArray(4, connection.createArrayOf("varchar", roles));
+                List<String> inserted = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) inserted.add(rs.getString(1));
+                }
+                return inserted;
+            }
+        }));
+
+        boolean[] inserted = new boolean[users.size()];
+        for (int i = 0; i < inserted.length; i++) {
+            inserted[i] = created.contains(emails[i]);
+        }
+        return inserted;
+    }
+
+    // Portable fallback (H2 in tests): filter out existing emails first, then insert the rest
+    private boolean[] insertNew(List<User> users, long[] ids) {
+        Set<String> existing = existingEmails(users);
+        boolean[] inserted = new boolean[users.size()];
+        List<Object[]> rows = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (existing.contains(user.getEmail())) continue;
+            inserted[i] = true;
+            rows.add(new Object[]{ids[i], user.getEmail(), user.getPassword(), user.getRole().name()});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        return inserted;
+    }
+
+    private Set<String> existingEmails(List<User> users) {
+        String placeholders = String.join(",", Collections.nCopies(users.size(), "?"));
+        Object[] emails = users.stream().map(User::getEmail).toArray();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email IN (" + placeholders + ")", String.class, emails));
+    }
+
+    private long[] allocateIds(int count) {
+        String nextValue = isPostgres()
+                ? "SELECT nextval('" + UserEntity.ID_SEQUENCE + "')"
+                : "SELECT NEXT VALUE FOR " + UserEntity.ID_SEQUENCE;
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            // each sequence value is the top of a block of ID_ALLOCATION_SIZE ids, as in Hibernate's pooled optimizer
+            long hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+            for (long id = Math.max(1, hi - UserEntity.ID_ALLOCATION_SIZE + 1); id <= hi && filled < count; id++) {
+                ids[filled++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -13,8 +13,13 @@ import lombok.*;
 @Builder
 public class UserEntity {
 
+    static final String ID_SEQUENCE = "users_seq";
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    // a pooled sequence lets Hibernate batch inserts and hand out ids without a round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id")
+    @SequenceGenerator(name = "users_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -1,9 +1,13 @@
 package com.example.saas.chatbot.infrastructure.auth.adapter.out;
 
+import com.example.saas.chatbot.domain.auth.exception.UserAlreadyExistsException;
 import com.example.saas.chatbot.domain.auth.model.User;
 import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaReads;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,6 +16,7 @@ import java.util.Optional;
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
     private final UserJpaRepository jpaRepository;
+    private final ReplicaReads replicaReads;
 
     @Override
     public User save(User user) {
@@ -21,20 +26,37 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .role(user.getRole())
                 .build();
 
-        UserEntity saved = jpaRepository.save(entity);
-        return toDomain(saved);
+        try {
+            // flushed here so a duplicate email fails inside this call rather than at commit
+            UserEntity saved = jpaRepository.saveAndFlush(entity);
+            return toDomain(saved);
+        } catch (DataIntegrityViolationException e) {
+            // only pay for the lookup on the failure path; the conflicting row may be too new for a replica
+            if (replicaReads.onPrimary(() -> jpaRepository.existsByEmail(user.getEmail()))) {
+                throw new UserAlreadyExistsException(user.getEmail());
+            }
+            throw e;
+        }
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return jpaRepository.findByEmail(email).map(this::toDomain);
+        // a login right after registering must not miss the new row on a lagging replica
+        return replicaReads.find(() -> jpaRepository.findByEmail(email)).map(this::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmail(email);
     }
 
+    @Override
+    @Transactional
+    public void updatePassword(String email, String encodedPassword) {
+        jpaRepository.updatePassword(email, encodedPassword);
+    }
+
     private User toDomain(UserEntity entity) {
         return User.builder()
                 .id(entity.getId())
@@ -0,0 +1,8 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+
+import java.time.Instant;
+
+public record AuditEntry(Instant occurredAt, AuthAuditType type, String subject) {
+}
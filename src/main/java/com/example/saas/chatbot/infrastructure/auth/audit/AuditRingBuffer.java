@@ -0,0 +1,104 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of audit events. The slots are preallocated as
+ * parallel arrays, so publishing an event stores three fields and allocates nothing.
+ *
+ * <p>Each slot carries a sequence number. A slot is free for position {@code p} when its
+ * sequence equals {@code p}: a producer claims the position with a CAS on the tail, fills the
+ * slot and releases it by setting the sequence to {@code p + 1}, which is what the consumer
+ * waits for. The consumer frees the slot for the next lap by setting it to {@code p + capacity}.
+ * No locks are taken, and a full ring is reported instead of waited on.
+ */
+class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] timestamps;
+    private final AuthAuditType[] types;
+    private final String[] subjects;
+    private final AtomicLong tail = new AtomicLong();
+
+    // written only by the consumer, read by the lag gauge
+    private volatile long head;
+
+    AuditRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.timestamps = new long[capacity];
+        this.types = new AuthAuditType[capacity];
+        this.subjects = new String[capacity];
+    }
+
+    /**
+     * Publishes an event, or returns false without waiting when every slot is taken.
+     */
+    boolean offer(long timestamp, AuthAuditType type, String subject) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                long witness = tail.compareAndExchange(position, position + 1);
+                if (witness == position) {
+                    timestamps[index] = timestamp;
+                    types[index] = type;
+                    subjects[index] = subject;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = witness;
+            } else if (difference < 0) {
+                // the slot still holds the event from the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published events into {@code batch}, in publication order. Only
+     * one thread may drain.
+     */
+    int drain(List<AuditEntry> batch, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            batch.add(new AuditEntry(Instant.ofEpochMilli(timestamps[index]), types[index], subjects[index]));
+            subjects[index] = null;
+            sequences.setRelease(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * Events claimed by producers and not yet drained.
+     */
+    long size() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where drained audit batches are written. Called from the single writer thread only, so
+ * implementations need no synchronization. A batch that fails is offered again.
+ */
+public interface AuditSink extends Closeable {
+
+    void write(List<AuditEntry> batch) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
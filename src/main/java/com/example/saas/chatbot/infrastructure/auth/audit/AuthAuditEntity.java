@@ -0,0 +1,33 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Maps {@code auth_audit_log} so the schema is managed with the other tables. Rows are only
+ * inserted, in batches, by {@link JdbcAuditSink}.
+ */
+@Entity
+@Table(name = "auth_audit_log", indexes = @Index(name = "idx_auth_audit_subject", columnList = "subject, occurred_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthAuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+
+    @Column(name = "subject")
+    private String subject;
+}
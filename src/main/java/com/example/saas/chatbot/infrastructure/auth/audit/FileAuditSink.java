@@ -0,0 +1,131 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Appends audit entries to {@code auth-audit.log}, one tab-separated line per event
+ * ({@code occurredAt type subject}, {@code -} for an unknown subject). Once the file reaches
+ * {@code maxFileBytes} it is renamed to {@code auth-audit-<epoch millis>.log} and a new one is
+ * started; rolled files are never written again, and removing them is left to log retention.
+ *
+ * <p>Each batch is encoded into one buffer and written with as few {@code write} calls as the
+ * channel allows. {@link FsyncPolicy} decides when the written bytes are forced to disk.
+ */
+@Slf4j
+public class FileAuditSink implements AuditSink {
+
+    static final String ACTIVE_FILE = "auth-audit.log";
+
+    public enum FsyncPolicy {
+        /** Leave flushing to the operating system. */
+        NEVER,
+        /** Force after every batch: nothing acknowledged by the writer is lost in a crash. */
+        BATCH,
+        /** Force at most once per interval, bounding what a crash can lose to that window. */
+        INTERVAL
+    }
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final StringBuilder lines = new StringBuilder(4096);
+
+    private FileChannel channel;
+    private long fileBytes;
+    private long lastForce = System.nanoTime();
+    private boolean unforced;
+
+    public FileAuditSink(Path directory, long maxFileBytes, FsyncPolicy fsyncPolicy, Duration fsyncInterval)
+            throws IOException {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        Files.createDirectories(directory);
+        open();
+        log.info("Writing the auth audit log to {} (fsync {})", directory.resolve(ACTIVE_FILE).toAbsolutePath(),
+                fsyncPolicy);
+    }
+
+    @Override
+    public void write(List<AuditEntry> batch) throws IOException {
+        lines.setLength(0);
+        for (AuditEntry entry : batch) {
+            lines.append(entry.occurredAt()).append('\t')
+                    .append(entry.type()).append('\t');
+            appendSubject(entry.subject());
+            lines.append('\n');
+        }
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(lines.toString());
+        while (buffer.hasRemaining()) {
+            fileBytes += channel.write(buffer);
+        }
+        unforced = true;
+
+        if (fsyncPolicy == FsyncPolicy.BATCH
+                || fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+            force();
+        }
+        if (fileBytes >= maxFileBytes) {
+            roll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            force();
+        }
+        channel.close();
+    }
+
+    private void appendSubject(String subject) {
+        if (subject == null) {
+            lines.append('-');
+            return;
+        }
+        // keep one event per line whatever the subject contains
+        for (int i = 0; i < subject.length(); i++) {
+            char c = subject.charAt(i);
+            lines.append(Character.isISOControl(c) ? ' ' : c);
+        }
+    }
+
+    private void force() throws IOException {
+        if (unforced) {
+            channel.force(false);
+            unforced = false;
+        }
+        lastForce = System.nanoTime();
+    }
+
+    private void roll() throws IOException {
+        force();
+        channel.close();
+        long stamp = System.currentTimeMillis();
+        Path rolled = directory.resolve("auth-audit-" + stamp + ".log");
+        for (int n = 1; Files.exists(rolled); n++) {
+            rolled = directory.resolve("auth-audit-" + stamp + "-" + n + ".log");
+        }
+        Files.move(directory.resolve(ACTIVE_FILE), rolled, StandardCopyOption.ATOMIC_MOVE);
+        open();
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(directory.resolve(ACTIVE_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileBytes = channel.size();
+    }
+}
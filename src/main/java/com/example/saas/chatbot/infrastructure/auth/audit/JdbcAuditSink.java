@@ -0,0 +1,35 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes each batch to {@code auth_audit_log} as one JDBC batch in its own transaction, so a
+ * failed batch leaves no rows behind and can be offered again whole.
+ */
+public class JdbcAuditSink implements AuditSink {
+
+    private static final String INSERT =
+            "INSERT INTO auth_audit_log (occurred_at, event_type, subject) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcAuditSink(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void write(List<AuditEntry> batch) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, entry) -> {
+                    ps.setTimestamp(1, Timestamp.from(entry.occurredAt()));
+                    ps.setString(2, entry.type().name());
+                    ps.setString(3, entry.subject());
+                }));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+import com.example.saas.chatbot.domain.auth.port.out.AuthAuditPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AuthAuditPort} that publishes into an {@link AuditRingBuffer} and returns. One writer
+ * thread drains the ring in batches of up to {@code batchSize} into the {@link AuditSink}, so
+ * the request path never waits on a disk or a database.
+ *
+ * <p>When the ring is full, {@link OverflowPolicy#DROP} discards the event and
+ * {@link OverflowPolicy#BLOCK} waits up to {@code blockTimeout} for a slot before discarding it.
+ * A batch the sink rejects is retried until it is written, meanwhile the ring absorbs new events
+ * and the overflow policy applies once it fills. Delivery is at least once: a batch that failed
+ * halfway may be written twice.
+ *
+ * <p>Queued events are exported as {@code auth.audit.lag}, discarded ones as
+ * {@code auth.audit.dropped}. The writer starts before and stops after the web server, and
+ * drains the ring completely before it closes the sink.
+ */
+@Slf4j
+public class RingBufferAuthAuditAdapter implements AuthAuditPort, SmartLifecycle {
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AuditRingBuffer ring;
+    private final AuditSink sink;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final long idleWaitNanos;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failures;
+    private final Timer writeTime;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public RingBufferAuthAuditAdapter(AuditSink sink,
+                                      int capacity,
+                                      int batchSize,
+                                      OverflowPolicy overflowPolicy,
+                                      Duration blockTimeout,
+                                      Duration idleWait,
+                                      MeterRegistry meterRegistry) {
+        this.ring = new AuditRingBuffer(capacity);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.idleWaitNanos = idleWait.toNanos();
+        this.written = Counter.builder("auth.audit.written")
+                .description("Audit events written by the sink")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("auth.audit.dropped")
+                .description("Audit events discarded because the ring was full or the sink failed at shutdown")
+                .register(meterRegistry);
+        this.failures = Counter.builder("auth.audit.write.failures")
+                .description("Audit batches the sink failed to write")
+                .register(meterRegistry);
+        this.writeTime = Timer.builder("auth.audit.write")
+                .description("Time to write one batch of audit events")
+                .register(meterRegistry);
+        Gauge.builder("auth.audit.lag", ring, AuditRingBuffer::size)
+                .description("Audit events published and not yet written")
+                .register(meterRegistry);
+        Gauge.builder("auth.audit.capacity", ring, AuditRingBuffer::capacity)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(AuthAuditType type, String subject) {
+        long now = System.currentTimeMillis();
+        if (ring.offer(now, type, subject)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK && running && offerWithin(now, type, subject)) {
+            return;
+        }
+        dropped.increment();
+    }
+
+    private boolean offerWithin(long timestamp, AuthAuditType type, String subject) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        do {
+            LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+            if (ring.offer(timestamp, type, subject)) {
+                return true;
+            }
+        } while (running && deadline - System.nanoTime() > 0);
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("auth-audit-writer").daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    // stop after the web server has finished its requests, so their events are drained too
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (ring.drain(batch, batchSize) == 0) {
+                LockSupport.parkNanos(idleWaitNanos);
+                continue;
+            }
+            write(batch);
+        }
+        while (ring.drain(batch, batchSize) > 0) {
+            write(batch);
+        }
+        try {
+            sink.close();
+        } catch (IOException e) {
+            log.warn("Could not close the audit sink: {}", e.getMessage());
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        while (true) {
+            long start = System.nanoTime();
+            try {
+                sink.write(batch);
+                writeTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                written.increment(batch.size());
+                batch.clear();
+                return;
+            } catch (IOException | RuntimeException e) {
+                failures.increment();
+                if (!running) {
+                    log.error("Discarding {} audit events, the sink failed during shutdown", batch.size(), e);
+                    dropped.increment(batch.size());
+                    batch.clear();
+                    return;
+                }
+                log.warn("Audit sink failed, retrying {} events: {}", batch.size(), e.getMessage());
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.saas.chatbot.infrastructure.auth.config;
+
+import com.example.saas.chatbot.domain.auth.port.out.AuthAuditPort;
+import com.example.saas.chatbot.infrastructure.auth.audit.AuditSink;
+import com.example.saas.chatbot.infrastructure.auth.audit.FileAuditSink;
+import com.example.saas.chatbot.infrastructure.auth.audit.JdbcAuditSink;
+import com.example.saas.chatbot.infrastructure.auth.audit.RingBufferAuthAuditAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Audit trail of logins, failed logins, refreshes and logouts. {@code auth.audit.sink} picks
+ * where it goes: {@code file} (the default), {@code jdbc} for the {@code auth_audit_log} table,
+ * or {@code none}.
+ */
+@Configuration
+public class AuthAuditConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.audit.sink", havingValue = "file", matchIfMissing = true)
+    public AuditSink fileAuditSink(@Value("${auth.audit.file.directory:logs/audit}") Path directory,
+                                   @Value("${auth.audit.file.max-size:64MB}") DataSize maxSize,
+                                   @Value("${auth.audit.file.fsync:BATCH}") FileAuditSink.FsyncPolicy fsyncPolicy,
+                                   @Value("${auth.audit.file.fsync-interval:1s}") Duration fsyncInterval) throws IOException {
+        return new FileAuditSink(directory, maxSize.toBytes(), fsyncPolicy, fsyncInterval);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.audit.sink", havingValue = "jdbc")
+    public AuditSink jdbcAuditSink(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // never joins a caller's transaction; the writer thread has none anyway
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new JdbcAuditSink(jdbcTemplate, transactionTemplate);
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${auth.audit.sink:file}' != 'none'")
+    public RingBufferAuthAuditAdapter authAudit(AuditSink auditSink,
+                                                @Value("${auth.audit.buffer-size:8192}") int bufferSize,
+                                                @Value("${auth.audit.batch-size:256}") int batchSize,
+                                                @Value("${auth.audit.overflow:DROP}") RingBufferAuthAuditAdapter.OverflowPolicy overflow,
+                                                @Value("${auth.audit.block-timeout:50ms}") Duration blockTimeout,
+                                                @Value("${auth.audit.idle-wait:5ms}") Duration idleWait,
+                                                MeterRegistry meterRegistry) {
+        return new RingBufferAuthAuditAdapter(auditSink, bufferSize, batchSize, overflow, blockTimeout, idleWait,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.audit.sink", havingValue = "none")
+    public AuthAuditPort noAuthAudit() {
+        return (type, subject) -> { };
+    }
+}
@@ -1,30 +1,170 @@
 package com.example.saas.chatbot.infrastructure.auth.config;
 
 import com.example.saas.chatbot.application.service.auth.AuthService;
+import com.example.saas.chatbot.application.service.auth.RefreshCoalescer;
+import com.example.saas.chatbot.application.service.auth.UserProvisioningService;
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
 import com.example.saas.chatbot.domain.auth.port.in.AuthUseCase;
+import com.example.saas.chatbot.domain.auth.port.in.UserProvisioningUseCase;
+import com.example.saas.chatbot.domain.auth.port.out.AuthAuditPort;
 import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
 import com.example.saas.chatbot.domain.auth.port.out.RefreshTokenRepositoryPort;
 import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
+import com.example.saas.chatbot.domain.auth.port.out.UserBulkRepositoryPort;
 import com.example.saas.chatbot.domain.auth.port.out.TokenProviderPort;
 import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
+import com.example.saas.chatbot.infrastructure.auth.adapter.out.CachingUserRepository;
+import com.example.saas.chatbot.infrastructure.auth.adapter.out.ReplicatedTokenBlacklistAdapter;
+import com.example.saas.chatbot.infrastructure.auth.adapter.out.RevokedTokenJpaRepository;
+import com.example.saas.chatbot.infrastructure.auth.adapter.out.UserRepositoryAdapter;
+import com.example.saas.chatbot.infrastructure.auth.security.AuthRateLimiter;
+import com.example.saas.chatbot.infrastructure.auth.security.BoundedPasswordEncoder;
+import com.example.saas.chatbot.infrastructure.auth.security.CachingTokenProvider;
+import com.example.saas.chatbot.infrastructure.auth.security.InMemoryTokenBlacklist;
 import com.example.saas.chatbot.infrastructure.auth.security.JwtAuthenticationFilter;
+import com.example.saas.chatbot.infrastructure.auth.security.JwtService;
+import com.example.saas.chatbot.infrastructure.auth.security.PasswordHashCalibrator;
+import com.example.saas.chatbot.infrastructure.auth.security.RateLimiter;
+import com.example.saas.chatbot.infrastructure.auth.security.SigningKeyRing;
+import com.example.saas.chatbot.infrastructure.auth.security.SigningKeyStore;
 import com.example.saas.chatbot.infrastructure.auth.security.SpringPasswordEncoderAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.saas.chatbot.infrastructure.auth.metrics.MeteredAuthUseCase;
+import com.example.saas.chatbot.infrastructure.auth.metrics.MeteredTokenBlacklist;
+import com.example.saas.chatbot.infrastructure.auth.metrics.MeteredTokenProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
 @Configuration
 public class BeanConfig {
 
+    private static final String BCRYPT = "bcrypt";
+
+    /**
+     * New hashes are written as {@code {bcrypt}$2a$<cost>$...}. Hashes stored before the prefix
+     * existed still match through the default bcrypt decoder and are reported as needing a rehash,
+     * as are prefixed hashes with a lower cost than the configured one.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt.strength:10}") int strength,
+                                           @Value("${auth.password.bcrypt.calibrate:false}") boolean calibrate,
+                                           @Value("${auth.password.bcrypt.hash-target:250ms}") Duration hashTarget,
+                                           @Value("${auth.password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${auth.password.bcrypt.max-strength:14}") int maxStrength) {
+        int cost = calibrate
+                ? PasswordHashCalibrator.calibrateBCrypt(hashTarget, minStrength, maxStrength)
+                : strength;
+        log.info("Hashing new passwords with bcrypt cost {}{}", cost, calibrate ? " (calibrated to " + hashTarget + ")" : "");
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT,
+                Map.of(BCRYPT, new BCryptPasswordEncoder(cost)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    @Bean
+    public PasswordEncoderPort passwordEncoderPort(PasswordEncoder passwordEncoder,
+                                                   @Value("${auth.password.hashing.threads:0}") int threads,
+                                                   @Value("${auth.password.hashing.queue-capacity:64}") int queueCapacity,
+                                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new SpringPasswordEncoderAdapter(passwordEncoder),
+                poolSize, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * {@link JwtService} behind its timers, and behind the verified-token cache when enabled, so
+     * {@code jwt.verify} only counts real verifications.
+     */
+    @Bean
+    @Primary
+    public TokenProviderPort tokenProvider(JwtService jwtService,
+                                           @Value("${jwt.verify-cache.enabled:false}") boolean cacheEnabled,
+                                           @Value("${jwt.verify-cache.max-size:10000}") int maxSize,
+                                           MeterRegistry meterRegistry) {
+        TokenProviderPort metered = new MeteredTokenProvider(jwtService, meterRegistry);
+        return cacheEnabled ? new CachingTokenProvider(metered, maxSize, meterRegistry) : metered;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "auth.user-cache.enabled", havingValue = "true")
+    public UserRepositoryPort cachingUserRepository(UserRepositoryAdapter userRepositoryAdapter,
+                                                    @Value("${auth.user-cache.max-size:10000}") int maxSize,
+                                                    @Value("${auth.user-cache.ttl:5m}") Duration ttl,
+                                                    @Value("${auth.user-cache.negative-ttl:5s}") Duration negativeTtl,
+                                                    @Value("${auth.user-cache.password-ttl:1m}") Duration passwordTtl,
+                                                    MeterRegistry meterRegistry) {
+        return new CachingUserRepository(userRepositoryAdapter, maxSize, ttl, negativeTtl, passwordTtl, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jwt.signing.algorithm", havingValue = "ES256")
+    public SigningKeyRing signingKeyRing(SigningKeyStore signingKeyStore,
+                                         @Value("${jwt.secret}") String secret,
+                                         @Value("${jwt.signing.rotation-period:30d}") Duration rotationPeriod,
+                                         @Value("${jwt.signing.activation-delay:10m}") Duration activationDelay,
+                                         @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationMs) {
+        // a retired key must outlive every token it signed, refresh tokens being the longest lived
+        return new SigningKeyRing(signingKeyStore, secret, rotationPeriod, activationDelay,
+                Duration.ofMillis(refreshExpirationMs));
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @ConditionalOnProperty(name = "jwt.blacklist.mode", havingValue = "memory", matchIfMissing = true)
+    public InMemoryTokenBlacklist inMemoryTokenBlacklist(@Value("${jwt.blacklist.expected-size:100000}") int expectedSize,
+                                                         MeterRegistry meterRegistry) {
+        return meterSize(new InMemoryTokenBlacklist(expectedSize), meterRegistry);
     }
 
     @Bean
-    public PasswordEncoderPort passwordEncoderPort(PasswordEncoder passwordEncoder) {
-        return new SpringPasswordEncoderAdapter(passwordEncoder);
+    @ConditionalOnProperty(name = "jwt.blacklist.mode", havingValue = "replicated")
+    public ReplicatedTokenBlacklistAdapter replicatedTokenBlacklist(RevokedTokenJpaRepository revokedTokenRepository,
+                                                                    @Value("${jwt.blacklist.expected-size:100000}") int expectedSize,
+                                                                    @Value("${jwt.blacklist.poll-batch-size:1000}") int batchSize,
+                                                                    @Value("${jwt.blacklist.straggler-window:10s}") Duration stragglerWindow,
+                                                                    MeterRegistry meterRegistry) {
+        InMemoryTokenBlacklist replica = meterSize(new InMemoryTokenBlacklist(expectedSize), meterRegistry);
+        return new ReplicatedTokenBlacklistAdapter(revokedTokenRepository, replica,
+                batchSize, stragglerWindow, meterRegistry);
+    }
+
+    // the store beans above stay registered as themselves so their @Scheduled eviction keeps running
+    @Bean
+    @Primary
+    public TokenBlacklistPort tokenBlacklist(ObjectProvider<ReplicatedTokenBlacklistAdapter> replicated,
+                                             ObjectProvider<InMemoryTokenBlacklist> inMemory,
+                                             MeterRegistry meterRegistry) {
+        TokenBlacklistPort store = replicated.getIfAvailable();
+        if (store == null) {
+            store = inMemory.getObject();
+        }
+        return new MeteredTokenBlacklist(store, meterRegistry);
+    }
+
+    private static InMemoryTokenBlacklist meterSize(InMemoryTokenBlacklist blacklist, MeterRegistry meterRegistry) {
+        Gauge.builder("jwt.blacklist.size", blacklist, InMemoryTokenBlacklist::size)
+                .description("Revoked access tokens held until they expire")
+                .register(meterRegistry);
+        return blacklist;
     }
 
     @Bean
@@ -32,15 +172,70 @@ public class BeanConfig {
                                    TokenProviderPort tokenProvider,
                                    PasswordEncoderPort passwordEncoder,
                                    RefreshTokenRepositoryPort refreshTokenRepository,
-                                   TokenBlacklistPort tokenBlacklist) {
-        return new AuthService(userRepository, tokenProvider, passwordEncoder,
-                refreshTokenRepository, tokenBlacklist);
+                                   TokenBlacklistPort tokenBlacklist,
+                                   AuthAuditPort authAudit,
+                                   @Value("${auth.refresh.grace-period:10s}") Duration refreshGracePeriod,
+                                   @Qualifier("passwordRehashExecutor") Executor rehashExecutor,
+                                   MeterRegistry meterRegistry) {
+        return new MeteredAuthUseCase(new AuthService(userRepository, tokenProvider, passwordEncoder,
+                refreshTokenRepository, tokenBlacklist, authAudit, new RefreshCoalescer(refreshGracePeriod),
+                rehashExecutor), meterRegistry);
+    }
+
+    /**
+     * Bulk import hashes on its own request thread, one row at a time, rather than through the
+     * bounded login pool: a large import neither takes the queue slots logins need nor fails half
+     * way, after earlier batches committed, because logins filled the queue.
+     */
+    @Bean
+    public UserProvisioningUseCase userProvisioningUseCase(UserBulkRepositoryPort userBulkRepository,
+                                                           PasswordEncoder passwordEncoder,
+                                                           @Value("${auth.provisioning.batch-size:1000}") int batchSize) {
+        return new UserProvisioningService(userBulkRepository, new SpringPasswordEncoderAdapter(passwordEncoder),
+                batchSize);
+    }
+
+    /**
+     * One background worker is plenty for rehash-on-login; overflow is dropped and retried on a
+     * later login. As a bean it is shut down with the context, finishing queued rehashes first.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordRehashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("password-rehash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean
+    public ResponseBodies responseBodies(ObjectMapper objectMapper) {
+        return new ResponseBodies(objectMapper);
+    }
+
+    @Bean
+    public AuthRateLimiter authRateLimiter(@Value("${auth.rate-limit.login.ip.capacity:20}") int loginIpCapacity,
+                                           @Value("${auth.rate-limit.login.email.capacity:5}") int loginEmailCapacity,
+                                           @Value("${auth.rate-limit.refresh.ip.capacity:60}") int refreshIpCapacity,
+                                           @Value("${auth.rate-limit.period:1m}") Duration period) {
+        return new AuthRateLimiter(
+                new RateLimiter(loginIpCapacity, period),
+                new RateLimiter(loginEmailCapacity, period),
+                new RateLimiter(refreshIpCapacity, period));
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(TokenProviderPort tokenProvider,
                                                            TokenBlacklistPort tokenBlacklist,
-                                                           AuthUseCase authUseCase) {
-        return new JwtAuthenticationFilter(tokenProvider, tokenBlacklist, authUseCase);
+                                                           AuthUseCase authUseCase,
+                                                           AuthRateLimiter authRateLimiter,
+                                                           ResponseBodies responseBodies,
+                                                           MeterRegistry meterRegistry) {
+        return new JwtAuthenticationFilter(tokenProvider, tokenBlacklist, authUseCase, authRateLimiter,
+                responseBodies, meterRegistry);
     }
 }
@@ -1,22 +1,35 @@
 package com.example.saas.chatbot.infrastructure.auth.config;
 
 import com.example.saas.chatbot.infrastructure.auth.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final List<IpAddressMatcher> scrapers;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          @Value("${actuator.scrape.allowed-addresses:127.0.0.1/32,::1}") List<String> scrapeAddresses) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.scrapers = scrapeAddresses.stream().map(String::strip).map(IpAddressMatcher::new).toList();
     }
 
     @Bean
@@ -26,11 +39,27 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // the dispatch that completes an SSE stream belongs to a request already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/login", "/api/auth/register").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
+                        // actuator listens on management.server.port; only health is open there
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/prometheus").access(AuthorizationManagers.anyOf(
+                                fromScraper(), AuthorityAuthorizationManager.hasRole("ADMIN")))
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/auth/sessions", "/api/auth/sessions/**").hasRole("USER")
+                        .requestMatchers("/api/chat", "/api/chat/**").hasRole("USER")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    private AuthorizationManager<RequestAuthorizationContext> fromScraper() {
+        return (authentication, context) -> new AuthorizationDecision(scrapers.stream()
+                .anyMatch(scraper -> scraper.matches(context.getRequest())));
+    }
 }
@@ -0,0 +1,114 @@
+package com.example.saas.chatbot.infrastructure.auth.metrics;
+
+import com.example.saas.chatbot.domain.auth.model.AuthToken;
+import com.example.saas.chatbot.domain.auth.model.Session;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.in.AuthUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every {@link AuthUseCase} call as {@code auth.usecase} tagged with the method and its
+ * outcome; failures also carry the exception's simple name.
+ */
+public class MeteredAuthUseCase implements AuthUseCase {
+
+    private static final String METRIC = "auth.usecase";
+
+    private final AuthUseCase delegate;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer login;
+    private final Timer register;
+    private final Timer logout;
+    private final Timer refresh;
+    private final Timer listSessions;
+    private final Timer revokeSession;
+    private final Timer revokeAllSessions;
+
+    public MeteredAuthUseCase(AuthUseCase delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.login = success("login");
+        this.register = success("register");
+        this.logout = success("logout");
+        this.refresh = success("refresh");
+        this.listSessions = success("listSessions");
+        this.revokeSession = success("revokeSession");
+        this.revokeAllSessions = success("revokeAllSessions");
+    }
+
+    @Override
+    public AuthToken login(String email, String password) {
+        return time(login, () -> delegate.login(email, password));
+    }
+
+    @Override
+    public User register(String email, String password) {
+        return time(register, () -> delegate.register(email, password));
+    }
+
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        time(logout, () -> {
+            delegate.logout(accessToken, refreshToken);
+            return null;
+        });
+    }
+
+    @Override
+    public AuthToken refresh(String refreshToken) {
+        return time(refresh, () -> delegate.refresh(refreshToken));
+    }
+
+    @Override
+    public List<Session> listSessions(String email) {
+        return time(listSessions, () -> delegate.listSessions(email));
+    }
+
+    @Override
+    public void revokeSession(String email, String sessionId) {
+        time(revokeSession, () -> {
+            delegate.revokeSession(email, sessionId);
+            return null;
+        });
+    }
+
+    @Override
+    public void revokeAllSessions(String email) {
+        time(revokeAllSessions, () -> {
+            delegate.revokeAllSessions(email);
+            return null;
+        });
+    }
+
+    private <T> T time(Timer success, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            // success timers are built up front; an error timer is only looked up when something fails
+            Timer.builder(METRIC)
+                    .tag("method", success.getId().getTag("method"))
+                    .tag("outcome", "error")
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer success(String method) {
+        return Timer.builder(METRIC)
+                .tag("method", method)
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.saas.chatbot.infrastructure.auth.metrics;
+
+import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+
+/**
+ * Counts blacklist lookups as {@code jwt.blacklist.lookups} by result, and revocations. Lookups
+ * take nanoseconds, so they are counted rather than timed.
+ */
+public class MeteredTokenBlacklist implements TokenBlacklistPort {
+
+    private final TokenBlacklistPort delegate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter revocations;
+
+    public MeteredTokenBlacklist(TokenBlacklistPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hits = Counter.builder("jwt.blacklist.lookups")
+                .tag("result", "revoked")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.blacklist.lookups")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.revocations = Counter.builder("jwt.blacklist.revocations")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void blacklist(String tokenId, Instant expiresAt) {
+        delegate.blacklist(tokenId, expiresAt);
+        revocations.increment();
+    }
+
+    @Override
+    public boolean isBlacklisted(String tokenId) {
+        boolean blacklisted = delegate.isBlacklisted(tokenId);
+        (blacklisted ? hits : misses).increment();
+        return blacklisted;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.saas.chatbot.infrastructure.auth.metrics;
+
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.TokenProviderPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times signing as {@code jwt.sign} per token type and verification as {@code jwt.verify} per
+ * result. Sits directly on the signer, under the verified-token cache, so it measures real
+ * cryptographic work rather than cache hits.
+ */
+public class MeteredTokenProvider implements TokenProviderPort {
+
+    private final TokenProviderPort delegate;
+    private final Timer signAccess;
+    private final Timer signRefresh;
+    private final Map<TokenVerification.Status, Timer> verify = new EnumMap<>(TokenVerification.Status.class);
+
+    public MeteredTokenProvider(TokenProviderPort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.signAccess = Timer.builder("jwt.sign")
+                .tag("type", "access")
+                .register(meterRegistry);
+        this.signRefresh = Timer.builder("jwt.sign")
+                .tag("type", "refresh")
+                .register(meterRegistry);
+        for (TokenVerification.Status status : TokenVerification.Status.values()) {
+            verify.put(status, Timer.builder("jwt.verify")
+                    .tag("result", status.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public String generateAccessToken(User user) {
+        long start = System.nanoTime();
+        String token = delegate.generateAccessToken(user);
+        signAccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    @Override
+    public String generateRefreshToken(User user) {
+        long start = System.nanoTime();
+        String token = delegate.generateRefreshToken(user);
+        signRefresh.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    @Override
+    public TokenVerification verify(String token) {
+        long start = System.nanoTime();
+        TokenVerification verification = delegate.verify(token);
+        verify.get(verification.status()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verification;
+    }
+
+    @Override
+    public String extractEmail(String token) {
+        return delegate.extractEmail(token);
+    }
+
+    @Override
+    public boolean isTokenValid(String token) {
+        return verify(token).isValid();
+    }
+
+    @Override
+    public boolean isTokenExpired(String token) {
+        return verify(token).isExpired();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.domain.shared.exception.RateLimitExceededException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the unauthenticated entry points: login per client IP and per email, and the
+ * filter's auto-refresh per client IP. Exceeding a limit throws
+ * {@link RateLimitExceededException}, which surfaces as {@code 429} with {@code Retry-After}.
+ *
+ * <p>Callers pass {@code request.getRemoteAddr()}. Behind a load balancer Tomcat's remote IP
+ * valve ({@code server.forward-headers-strategy=native}) has already replaced it with the
+ * {@code X-Forwarded-For} client, for connections from a trusted proxy only, so clients behind
+ * the same proxy get separate buckets.
+ */
+public class AuthRateLimiter {
+
+    private final RateLimiter loginByIp;
+    private final RateLimiter loginByEmail;
+    private final RateLimiter refreshByIp;
+
+    public AuthRateLimiter(RateLimiter loginByIp, RateLimiter loginByEmail, RateLimiter refreshByIp) {
+        this.loginByIp = loginByIp;
+        this.loginByEmail = loginByEmail;
+        this.refreshByIp = refreshByIp;
+    }
+
+    public void checkLogin(String clientIp, String email) {
+        check(loginByIp, clientIp);
+        check(loginByEmail, email.toLowerCase(Locale.ROOT));
+    }
+
+    public void checkRefresh(String clientIp) {
+        check(refreshByIp, clientIp);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        loginByIp.evictIdle();
+        loginByEmail.evictIdle();
+        refreshByIp.evictIdle();
+    }
+
+    private static void check(RateLimiter limiter, String key) {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+            throw new RateLimitExceededException("Too many attempts, try again later", retryAfterSeconds);
+        }
+    }
+}
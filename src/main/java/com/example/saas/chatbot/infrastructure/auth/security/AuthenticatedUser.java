@@ -0,0 +1,15 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.domain.auth.model.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * The caller of an authenticated request, built from the verified access token's claims alone.
+ */
+public record AuthenticatedUser(String email, Role role, String tokenId) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
+import com.example.saas.chatbot.domain.shared.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a dedicated pool with a bounded queue so a burst of logins cannot
+ * pin every request thread on bcrypt. When the queue is full the call fails immediately with
+ * {@link RateLimitExceededException} instead of waiting. A caller that is interrupted while its
+ * task is still queued gives the slot back at once.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoderPort, AutoCloseable {
+
+    private final PasswordEncoderPort delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTime;
+    private final Timer encodeTime;
+    private final Timer matchesTime;
+    private final Counter rejections;
+
+    public BoundedPasswordEncoder(PasswordEncoderPort delegate, int threads, int queueCapacity,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.waitTime = Timer.builder("auth.password.hashing.wait")
+                .description("Time a hashing task spent queued before a worker picked it up")
+                .register(meterRegistry);
+        this.encodeTime = Timer.builder("auth.password.hashing.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTime = Timer.builder("auth.password.hashing.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.password.hashing.rejected")
+                .description("Hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Hashing tasks waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return submit(encodeTime, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTime, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        // only parses the hash prefix, cheap enough to stay on the caller's thread
+        return delegate.needsRehash(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Timer hashTime, Callable<T> hashing) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTime.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTime.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new RateLimitExceededException("Authentication service is busy, try again shortly", 1);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            // a cancelled task still holds its queue slot until a worker dequeues it
+            executor.purge();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
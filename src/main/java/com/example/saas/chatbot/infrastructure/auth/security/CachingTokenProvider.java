@@ -0,0 +1,137 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.TokenProviderPort;
+import com.example.saas.chatbot.domain.shared.security.TokenDigests;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches successful verifications in front of another {@link TokenProviderPort} so a token
+ * presented repeatedly skips base64 decoding, claim parsing and the HMAC check.
+ *
+ * <p>Entries are keyed by the SHA-256 digest of the token, never the token itself, and live
+ * until the token's own {@code exp}. Only valid results are cached; expired and invalid tokens
+ * always go to the delegate. The cache does not replace the blacklist check, which callers
+ * still run on every request.
+ */
+public class CachingTokenProvider implements TokenProviderPort {
+
+    private final TokenProviderPort delegate;
+    private final int maxSize;
+    private final Map<Digest, TokenVerification> cache = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public CachingTokenProvider(TokenProviderPort delegate, int maxSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("jwt.verify.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.verify.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("jwt.verify.cache.evictions")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verify.cache.size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String generateAccessToken(User user) {
+        return delegate.generateAccessToken(user);
+    }
+
+    @Override
+    public String generateRefreshToken(User user) {
+        return delegate.generateRefreshToken(user);
+    }
+
+    @Override
+    public TokenVerification verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return TokenVerification.invalid();
+        }
+
+        Digest key = Digest.of(token);
+        TokenVerification cached = cache.get(key);
+        if (cached != null) {
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                hits.increment();
+                return cached;
+            }
+            if (cache.remove(key, cached)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        TokenVerification verification = delegate.verify(token);
+        if (verification.isValid()) {
+            if (cache.size() >= maxSize) {
+                evict();
+            }
+            cache.put(key, verification);
+        }
+        return verification;
+    }
+
+    @Override
+    public String extractEmail(String token) {
+        TokenVerification verification = verify(token);
+        return verification.isValid() ? verification.subject() : delegate.extractEmail(token);
+    }
+
+    @Override
+    public boolean isTokenValid(String token) {
+        return verify(token).isValid();
+    }
+
+    @Override
+    public boolean isTokenExpired(String token) {
+        return verify(token).isExpired();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.verify-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        cache.entrySet().removeIf(entry -> {
+            if (now.isBefore(entry.getValue().expiresAt())) return false;
+            evictions.increment();
+            return true;
+        });
+    }
+
+    private void evict() {
+        // Drop roughly a tenth of the entries in hash order, which is effectively random, so a
+        // full cache costs one short iteration instead of a scan for the oldest entry
+        int toEvict = Math.max(1, maxSize / 10);
+        Iterator<Digest> keys = cache.keySet().iterator();
+        while (toEvict > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.increment();
+            toEvict--;
+        }
+    }
+
+    private record Digest(long a, long b, long c, long d) {
+
+        static Digest of(String token) {
+            ByteBuffer buffer = ByteBuffer.wrap(TokenDigests.sha256(token));
+            return new Digest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * {@link Authentication} for a request carrying a valid access token. Unlike
+ * {@code UsernamePasswordAuthenticationToken} it neither copies its authorities nor carries
+ * web details, so authenticating a request allocates this object and its principal only.
+ */
+public final class ClaimsAuthentication implements Authentication {
+
+    private final AuthenticatedUser principal;
+    private boolean authenticated = true;
+
+    public ClaimsAuthentication(AuthenticatedUser principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public String getName() {
+        return principal.email();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.of(principal.role());
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated) {
+            throw new IllegalArgumentException("Authentication can only be granted by JwtAuthenticationFilter");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String toString() {
+        return "ClaimsAuthentication[" + principal.email() + ", " + principal.role() + "]";
+    }
+}
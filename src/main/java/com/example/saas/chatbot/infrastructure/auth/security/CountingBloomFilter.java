@@ -0,0 +1,100 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counting Bloom filter with 4-bit counters packed sixteen to a {@code long}.
+ * Counters that reach 15 saturate and are never decremented again, which keeps
+ * {@link #mightContain} free of false negatives at the cost of a slightly higher false
+ * positive rate once the filter is heavily loaded.
+ */
+final class CountingBloomFilter {
+
+    private static final int HASHES = 4;
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final int mask;
+
+    CountingBloomFilter(int expectedEntries) {
+        // eight counters per expected entry with four hashes keeps false positives around 2.4%
+        int counters = Integer.highestOneBit(Math.max(expectedEntries, 1024) * 8 - 1) << 1;
+        this.words = new AtomicLongArray(counters / COUNTERS_PER_WORD);
+        this.mask = counters - 1;
+    }
+
+    void add(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            increment((int) ((h1 + i * h2) & mask));
+        }
+    }
+
+    void remove(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            decrement((int) ((h1 + i * h2) & mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int index = (int) ((h1 + i * h2) & mask);
+            if (counter(words.get(index / COUNTERS_PER_WORD), index) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void increment(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        long current;
+        do {
+            current = words.get(word);
+            if (counter(current, index) == COUNTER_MASK) return;
+        } while (!words.compareAndSet(word, current, current + (1L << shift(index))));
+    }
+
+    private void decrement(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        long current;
+        do {
+            current = words.get(word);
+            long value = counter(current, index);
+            if (value == 0 || value == COUNTER_MASK) return;
+        } while (!words.compareAndSet(word, current, current - (1L << shift(index))));
+    }
+
+    private static long counter(long word, int index) {
+        return (word >>> shift(index)) & COUNTER_MASK;
+    }
+
+    private static int shift(int index) {
+        return (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    private static long hash(String value) {
+        // FNV-1a over the chars, finished with a 64-bit mixer so double hashing gets full entropy
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
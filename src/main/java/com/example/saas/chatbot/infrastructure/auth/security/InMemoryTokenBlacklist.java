@@ -2,30 +2,74 @@ package com.example.saas.chatbot.infrastructure.auth.security;
 
 import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
 
-@Component
+/**
+ * Revoked access tokens keyed by {@code jti}, each kept until the token itself expires.
+ *
+ * <p>Entries are also filed into one-second expiry buckets, so eviction only visits the
+ * buckets whose time has passed instead of sweeping the whole map. A counting Bloom filter
+ * answers the common "not revoked" case without touching the map at all.
+ */
 public class InMemoryTokenBlacklist implements TokenBlacklistPort {
 
-    private final Map<String, Instant> blacklist = new ConcurrentHashMap<>();
+    private static final long BUCKET_MILLIS = 1000;
+
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Queue<String>> buckets = new ConcurrentSkipListMap<>();
+    private final CountingBloomFilter prefilter;
+
+    public InMemoryTokenBlacklist(int expectedSize) {
+        this.prefilter = new CountingBloomFilter(expectedSize);
+    }
 
     @Override
-    public void blacklist(String token) {
-        blacklist.put(token, Instant.now());
+    public void blacklist(String tokenId, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return; // already unusable, nothing to remember
+        }
+
+        // the prefilter is updated first so a concurrent lookup never misses a stored entry
+        prefilter.add(tokenId);
+        if (entries.putIfAbsent(tokenId, expiresAtMillis) != null) {
+            prefilter.remove(tokenId);
+            return;
+        }
+        buckets.computeIfAbsent(expiresAtMillis / BUCKET_MILLIS, bucket -> new ConcurrentLinkedQueue<>())
+                .add(tokenId);
     }
 
     @Override
-    public boolean isBlacklisted(String token) {
-        return blacklist.containsKey(token);
+    public boolean isBlacklisted(String tokenId) {
+        return prefilter.mightContain(tokenId) && entries.containsKey(tokenId);
     }
 
-    @Scheduled(fixedRate = 3600000)
-    public void cleanup() {
-        Instant oneHourAgo = Instant.now().minusSeconds(3600);
-        blacklist.entrySet().removeIf(entry -> entry.getValue().isBefore(oneHourAgo));
+    public int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelay = BUCKET_MILLIS)
+    public void evictExpired() {
+        // one bucket of slack so a writer that read the clock just before us cannot land in a drained bucket
+        long horizon = System.currentTimeMillis() / BUCKET_MILLIS - 1;
+
+        Map.Entry<Long, Queue<String>> bucket;
+        while ((bucket = buckets.firstEntry()) != null && bucket.getKey() < horizon) {
+            if (!buckets.remove(bucket.getKey(), bucket.getValue())) {
+                continue;
+            }
+            for (String tokenId : bucket.getValue()) {
+                if (entries.remove(tokenId) != null) {
+                    prefilter.remove(tokenId);
+                }
+            }
+        }
     }
 }
@@ -1,33 +1,53 @@
 package com.example.saas.chatbot.infrastructure.auth.security;
 
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
 import com.example.saas.chatbot.domain.auth.model.AuthToken;
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
 import com.example.saas.chatbot.domain.auth.port.in.AuthUseCase;
 import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
 import com.example.saas.chatbot.domain.auth.port.out.TokenProviderPort;
+import com.example.saas.chatbot.domain.shared.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProviderPort tokenProvider;
     private final TokenBlacklistPort tokenBlacklist;
     private final AuthUseCase authUseCase;
+    private final AuthRateLimiter rateLimiter;
+    private final ResponseBodies responseBodies;
+    private final Counter refreshSucceeded;
+    private final Counter refreshFailed;
+    private final Counter refreshRateLimited;
+    private final Counter refreshMissingToken;
 
     public JwtAuthenticationFilter(TokenProviderPort tokenProvider,
                                    TokenBlacklistPort tokenBlacklist,
-                                   AuthUseCase authUseCase) {
+                                   AuthUseCase authUseCase,
+                                   AuthRateLimiter rateLimiter,
+                                   ResponseBodies responseBodies,
+                                   MeterRegistry meterRegistry) {
         this.tokenProvider = tokenProvider;
         this.tokenBlacklist = tokenBlacklist;
         this.authUseCase = authUseCase;
+        this.rateLimiter = rateLimiter;
+        this.responseBodies = responseBodies;
+        this.refreshSucceeded = refreshCounter(meterRegistry, "success");
+        this.refreshFailed = refreshCounter(meterRegistry, "failure");
+        this.refreshRateLimited = refreshCounter(meterRegistry, "rate_limited");
+        this.refreshMissingToken = refreshCounter(meterRegistry, "no_refresh_token");
     }
 
     @Override
@@ -37,28 +57,74 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String accessToken = extractAccessToken(request);
 
-        if (accessToken != null && !tokenBlacklist.isBlacklisted(accessToken)) {
-            if (tokenProvider.isTokenValid(accessToken)) {
-                setAuthentication(accessToken, request);
-            } else if (tokenProvider.isTokenExpired(accessToken)) {
-                String refreshToken = CookieUtil.extractRefreshTokenFromCookies(request.getCookies());
-                if (refreshToken != null) {
+        if (accessToken != null) {
+            TokenVerification verification = tokenProvider.verify(accessToken);
+            switch (verification.status()) {
+                case VALID -> {
+                    if (!tokenBlacklist.isBlacklisted(verification.tokenId())) {
+                        setAuthentication(verification);
+                    }
+                }
+                case EXPIRED -> {
                     try {
-                        AuthToken newTokens = authUseCase.refresh(refreshToken);
-                        CookieUtil.addAccessTokenCookie(response, newTokens.getAccessToken());
-                        CookieUtil.addRefreshTokenCookie(response, newTokens.getRefreshToken());
-                        response.setHeader("X-New-Access-Token", newTokens.getAccessToken());
-                        setAuthentication(newTokens.getAccessToken(), request);
-                    } catch (Exception ignored) {
-                        // refresh failed, user will get 401
+                        refresh(request, response);
+                    } catch (RateLimitExceededException e) {
+                        refreshRateLimited.increment();
+                        // the refresh path is reachable without credentials, so it is throttled like login
+                        writeTooManyRequests(response, e);
+                        return;
                     }
                 }
+                case INVALID -> {
+                    // malformed or tampered token, user will get 401
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private void refresh(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = CookieUtil.extractRefreshTokenFromCookies(request.getCookies());
+        if (refreshToken == null) {
+            refreshMissingToken.increment();
+            return;
+        }
+        rateLimiter.checkRefresh(request.getRemoteAddr());
+
+        try {
+            AuthToken newTokens = authUseCase.refresh(refreshToken);
+            CookieUtil.addAccessTokenCookie(response, newTokens.getAccessToken());
+            CookieUtil.addRefreshTokenCookie(response, newTokens.getRefreshToken());
+            response.setHeader("X-New-Access-Token", newTokens.getAccessToken());
+
+            TokenVerification verification = tokenProvider.verify(newTokens.getAccessToken());
+            if (verification.isValid()) {
+                setAuthentication(verification);
+            }
+            refreshSucceeded.increment();
+        } catch (Exception ignored) {
+            refreshFailed.increment();
+            // refresh failed, user will get 401
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.auto_refresh")
+                .description("Transparent refreshes attempted for requests carrying an expired access token")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitExceededException e) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // the same cached bytes GlobalExceptionHandler writes for a throttled login
+        response.getOutputStream().write(responseBodies.errorBody(HttpStatus.TOO_MANY_REQUESTS,
+                "server/too-many-requests", "Too Many Requests", e.getMessage()));
+    }
+
     private String extractAccessToken(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
@@ -67,11 +133,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return CookieUtil.extractAccessTokenFromCookies(request.getCookies());
     }
 
-    private void setAuthentication(String token, HttpServletRequest request) {
-        String email = tokenProvider.extractEmail(token);
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    private void setAuthentication(TokenVerification verification) {
+        SecurityContextHolder.getContext().setAuthentication(authenticate(verification));
+    }
+
+    // claims only: no user lookup, and the authorities are shared per role
+    static ClaimsAuthentication authenticate(TokenVerification verification) {
+        return new ClaimsAuthentication(
+                new AuthenticatedUser(verification.subject(), verification.role(), verification.tokenId()));
     }
 }
@@ -1,28 +1,90 @@
 package com.example.saas.chatbot.infrastructure.auth.security;
 
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenFormat;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
 import com.example.saas.chatbot.domain.auth.model.User;
 import com.example.saas.chatbot.domain.auth.port.out.TokenProviderPort;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
 @Component
 public class JwtService implements TokenProviderPort {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final int OPAQUE_TOKEN_BYTES = 32;
+    private static final Base64.Encoder OPAQUE_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKey key;
+    private final SigningKeyRing keyRing;
+    private final JwtParser parser;
+    private final long expiration;
+    private final long refreshExpiration;
+    private final RefreshTokenFormat refreshTokenFormat;
 
-    @Value("${jwt.refresh-expiration:604800000}")
-    private long refreshExpiration;
+    public JwtService(String secret, long expiration, long refreshExpiration, RefreshTokenFormat refreshTokenFormat) {
+        this(secret, expiration, refreshExpiration, refreshTokenFormat, (SigningKeyRing) null, null);
+    }
+
+    @Autowired
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") long expiration,
+                      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+                      @Value("${jwt.refresh-token.format:JWT}") RefreshTokenFormat refreshTokenFormat,
+                      ObjectProvider<SigningKeyRing> keyRing,
+                      @Value("${jwt.signing.hmac-accepted-until:}") String hmacAcceptedUntil) {
+        this(secret, expiration, refreshExpiration, refreshTokenFormat, keyRing.getIfAvailable(),
+                hmacAcceptedUntil.isBlank() ? null : Instant.parse(hmacAcceptedUntil));
+    }
+
+    /**
+     * With a key ring, tokens are signed ES256 under the ring's current {@code kid}. Tokens
+     * without a {@code kid}, issued with the HMAC secret before the switch, verify only until
+     * {@code hmacAcceptedUntil}, and never when it is null: otherwise anyone holding the secret
+     * could keep minting tokens the ring never signed.
+     */
+    public JwtService(String secret, long expiration, long refreshExpiration,
+                      RefreshTokenFormat refreshTokenFormat, SigningKeyRing keyRing, Instant hmacAcceptedUntil) {
+        // Key and parser are immutable and thread-safe, so they are built once instead of per call
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.keyRing = keyRing;
+        this.parser = keyRing == null
+                ? Jwts.parser().verifyWith(key).build()
+                : Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        if (kid != null) {
+                            return keyRing.publicKey(kid);
+                        }
+                        // no key means the token is rejected as unverifiable
+                        return hmacAcceptedUntil != null && Instant.now().isBefore(hmacAcceptedUntil) ? key : null;
+                    }
+                }).build();
+        this.expiration = expiration;
+        this.refreshExpiration = refreshExpiration;
+        this.refreshTokenFormat = refreshTokenFormat;
+    }
 
     @Override
     public String generateAccessToken(User user) {
@@ -31,53 +93,83 @@ public class JwtService implements TokenProviderPort {
 
     @Override
     public String generateRefreshToken(User user) {
+        if (refreshTokenFormat == RefreshTokenFormat.OPAQUE) {
+            // 256 random bits, persisted only as a SHA-256 digest by the repository adapter
+            byte[] bytes = new byte[OPAQUE_TOKEN_BYTES];
+            random.nextBytes(bytes);
+            return OPAQUE_ENCODER.encodeToString(bytes);
+        }
         return buildToken(user, refreshExpiration);
     }
 
     @Override
-    public String extractEmail(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes());
+    public TokenVerification verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return TokenVerification.invalid();
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            return TokenVerification.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenVerification.invalid();
+        }
+
+        Role role = parseRole(claims.get("role", String.class));
+        if (claims.getSubject() == null || claims.getId() == null || role == null || claims.getExpiration() == null) {
+            return TokenVerification.invalid();
+        }
+
+        return TokenVerification.valid(
+                claims.getSubject(),
+                role,
+                claims.getId(),
+                claims.getExpiration().toInstant()
+        );
+    }
 
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+    @Override
+    public String extractEmail(String token) {
+        return parser.parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
     }
 
     @Override
     public boolean isTokenValid(String token) {
-        try {
-            extractEmail(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isValid();
     }
 
     @Override
     public boolean isTokenExpired(String token) {
-        try {
-            extractEmail(token);
-            return false;
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isExpired();
     }
 
     private String buildToken(User user, long expirationMs) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes());
-
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(user.getEmail())
                 .claim("role", user.getRole().name())
                 .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(key)
+                .expiration(new Date(System.currentTimeMillis() + expirationMs));
+
+        if (keyRing == null) {
+            return builder.signWith(key).compact();
+        }
+        SigningKeyRing.SigningKey signingKey = keyRing.current();
+        return builder.header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.privateKey(), Jwts.SIG.ES256)
                 .compact();
     }
+
+    private static Role parseRole(String role) {
+        if (role == null) return null;
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt work factor that fits a per-hash latency budget on the current hardware.
+ * Each extra round doubles the cost, so one measured strength is enough to extrapolate.
+ */
+public final class PasswordHashCalibrator {
+
+    private static final int BASELINE_STRENGTH = 10;
+    private static final int SAMPLES = 5;
+
+    private PasswordHashCalibrator() {}
+
+    public static int calibrateBCrypt(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder baseline = new BCryptPasswordEncoder(BASELINE_STRENGTH);
+        baseline.encode("calibration-warmup");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            baseline.encode("calibration-sample");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long targetNanos = target.toNanos();
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            double estimate = best * Math.pow(2, candidate - BASELINE_STRENGTH);
+            if (estimate > targetNanos) break;
+            strength = candidate;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per key, implemented as GCRA: each key holds a single {@link AtomicLong} with its
+ * theoretical arrival time, and an acquire is one compare-and-set on it. There is no lock, global
+ * or per key, and contention is limited to callers sharing the same key.
+ *
+ * <p>A key whose arrival time has passed has a full bucket again and carries no state worth
+ * keeping, so {@link #evictIdle()} drops it.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Allows {@code capacity} acquisitions in a burst, refilled evenly over {@code period}.
+     */
+    public RateLimiter(int capacity, Duration period) {
+        this(capacity, period, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, Duration period, LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.emissionIntervalNanos = period.toNanos() / capacity;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return {@code 0} when allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long arrival = bucket.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Removes keys whose bucket has refilled completely. A caller racing with the removal may
+     * charge a bucket that is no longer mapped, which only ever errs in the client's favour.
+     */
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+}
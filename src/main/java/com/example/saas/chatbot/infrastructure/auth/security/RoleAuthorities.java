@@ -0,0 +1,31 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.domain.auth.model.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Granted authorities per role, built once and shared by every authenticated request.
+ * {@code ADMIN} also holds {@code ROLE_USER} so admins pass every user rule.
+ */
+public final class RoleAuthorities {
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        GrantedAuthority user = new SimpleGrantedAuthority("ROLE_" + Role.USER.name());
+        GrantedAuthority admin = new SimpleGrantedAuthority("ROLE_" + Role.ADMIN.name());
+        AUTHORITIES.put(Role.USER, List.of(user));
+        AUTHORITIES.put(Role.ADMIN, List.of(admin, user));
+    }
+
+    private RoleAuthorities() {}
+
+    public static List<GrantedAuthority> of(Role role) {
+        return AUTHORITIES.get(role);
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ES256 signing keys shared by all nodes through a {@link SigningKeyStore}.
+ *
+ * <p>A new key is published {@code activationDelay} before anyone signs with it, so nodes and
+ * JWKS caches learn its public half first. The newest active key signs; older keys are retired
+ * but kept for verification for {@code retention}, the longest lifetime of a token they signed.
+ * Private keys are stored encrypted with AES-GCM under a key derived from {@code jwt.secret}
+ * with HKDF-SHA256 and its own info label, so the wrapping key is never the HMAC signing key
+ * or a plain hash of it.
+ */
+@Slf4j
+public class SigningKeyRing {
+
+    static final String ALGORITHM = "ES256";
+
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final int WRAPPING_KEY_BYTES = 32;
+    private static final byte[] WRAPPING_KEY_INFO = "signing-key-wrap-v1".getBytes(StandardCharsets.UTF_8);
+    private static final Duration ON_DEMAND_RELOAD_INTERVAL = Duration.ofSeconds(10);
+
+    private final SigningKeyStore store;
+    private final SecretKeySpec wrappingKey;
+    private final Duration rotationPeriod;
+    private final Duration activationDelay;
+    private final Duration retention;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    // a lock rather than synchronized: reload reads the store, and a JDBC call inside a monitor
+    // pins the carrier thread when requests run on virtual threads
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile Instant lastReload = Instant.MIN;
+
+    public SigningKeyRing(SigningKeyStore store, String secret, Duration rotationPeriod,
+                          Duration activationDelay, Duration retention) {
+        this(store, secret, rotationPeriod, activationDelay, retention, Clock.systemUTC());
+    }
+
+    SigningKeyRing(SigningKeyStore store, String secret, Duration rotationPeriod,
+                   Duration activationDelay, Duration retention, Clock clock) {
+        this.store = store;
+        this.wrappingKey = new SecretKeySpec(hkdfSha256(secret, WRAPPING_KEY_INFO), "AES");
+        this.rotationPeriod = rotationPeriod;
+        this.activationDelay = activationDelay;
+        this.retention = retention;
+        this.clock = clock;
+
+        reload();
+        if (snapshot.current() == null) {
+            // first start: nothing can be holding tokens for an unpublished key, so activate at once
+            store.save(generate(clock.instant()));
+            reload();
+        }
+    }
+
+    public SigningKey current() {
+        return snapshot.current();
+    }
+
+    /**
+     * Public key for {@code kid}, reloading from the store at most every ten seconds when the
+     * kid is unknown, which is the case right after another node rotated.
+     */
+    public ECPublicKey publicKey(String kid) {
+        ECPublicKey key = snapshot.publicKeys().get(kid);
+        if (key == null && onDemandReloadDue()) {
+            reloadLock.lock();
+            try {
+                // checked again under the lock: callers that queued behind a reload reuse it, so a
+                // flood of unknown or forged kids costs one store read per interval, not one each
+                if (onDemandReloadDue()) {
+                    load();
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+            key = snapshot.publicKeys().get(kid);
+        }
+        return key;
+    }
+
+    private boolean onDemandReloadDue() {
+        return clock.instant().isAfter(lastReload.plus(ON_DEMAND_RELOAD_INTERVAL));
+    }
+
+    /**
+     * All keys a verifier may see in a token: pending, current and retired within retention.
+     */
+    public Map<String, ECPublicKey> publicKeys() {
+        return snapshot.publicKeys();
+    }
+
+    public long version() {
+        return snapshot.version();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval-ms:60000}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            load();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void load() {
+        Instant now = clock.instant();
+        List<SigningKey> keys = new ArrayList<>();
+        for (SigningKeyStore.StoredKey stored : store.findAll()) {
+            if (ALGORITHM.equals(stored.algorithm())) {
+                keys.add(decode(stored));
+            }
+        }
+        keys.sort(Comparator.comparing(SigningKey::activatesAt).thenComparing(SigningKey::kid));
+
+        SigningKey current = null;
+        Map<String, ECPublicKey> publicKeys = new LinkedHashMap<>();
+        for (SigningKey key : keys) {
+            publicKeys.put(key.kid(), key.publicKey());
+            if (!key.activatesAt().isAfter(now)) {
+                current = key;
+            }
+        }
+        SigningKey newest = keys.isEmpty() ? null : keys.get(keys.size() - 1);
+
+        // the version only moves when the published key set does, it backs the JWKS ETag
+        Snapshot previous = snapshot;
+        long version = publicKeys.keySet().equals(previous.publicKeys().keySet())
+                ? previous.version()
+                : previous.version() + 1;
+        // keeps activation order, which Map.copyOf would not, so the JWKS lists keys oldest first
+        snapshot = new Snapshot(current, newest, Collections.unmodifiableMap(publicKeys), version);
+        lastReload = now;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-check-interval-ms:3600000}")
+    public void rotateIfDue() {
+        Instant now = clock.instant();
+        reload();
+
+        SigningKey newest = snapshot.newest();
+        if (newest == null || !now.isBefore(newest.activatesAt().plus(rotationPeriod))) {
+            SigningKeyStore.StoredKey next = generate(now.plus(activationDelay));
+            store.save(next);
+            log.info("Published signing key {}, signing with it from {}", next.kid(), next.activatesAt());
+        }
+
+        SigningKey current = snapshot.current();
+        if (current != null) {
+            store.retireActivatedBefore(current.activatesAt(), now);
+        }
+        int purged = store.deleteRetiredBefore(now.minus(retention));
+        if (purged > 0) {
+            log.info("Removed {} signing keys retired more than {} ago", purged, retention);
+        }
+        reload();
+    }
+
+    private SigningKeyStore.StoredKey generate(Instant activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), random);
+            KeyPair pair = generator.generateKeyPair();
+
+            byte[] kidBytes = new byte[12];
+            random.nextBytes(kidBytes);
+            String kid = Base64.getUrlEncoder().withoutPadding().encodeToString(kidBytes);
+
+            return new SigningKeyStore.StoredKey(kid, ALGORITHM, pair.getPublic().getEncoded(),
+                    encrypt(pair.getPrivate().getEncoded()), clock.instant(), activatesAt, null);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate an ES256 signing key", e);
+        }
+    }
+
+    private SigningKey decode(SigningKeyStore.StoredKey stored) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            ECPublicKey publicKey = (ECPublicKey) factory.generatePublic(new X509EncodedKeySpec(stored.publicKey()));
+            PrivateKey privateKey = factory.generatePrivate(new PKCS8EncodedKeySpec(decrypt(stored.encryptedPrivateKey())));
+            return new SigningKey(stored.kid(), privateKey, publicKey, stored.activatesAt());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot read signing key " + stored.kid()
+                    + "; was jwt.secret changed?", e);
+        }
+    }
+
+    private byte[] encrypt(byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, wrappingKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] sealed = cipher.doFinal(plain);
+        return ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array();
+    }
+
+    private byte[] decrypt(byte[] stored) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, wrappingKey, new GCMParameterSpec(GCM_TAG_BITS, stored, 0, GCM_IV_BYTES));
+        return cipher.doFinal(stored, GCM_IV_BYTES, stored.length - GCM_IV_BYTES);
+    }
+
+    // RFC 5869 with an all-zero salt; one expand block covers the 32-byte AES key
+    private static byte[] hkdfSha256(String secret, byte[] info) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(new byte[mac.getMacLength()], "HmacSHA256"));
+            byte[] pseudoRandomKey = mac.doFinal(secret.getBytes(StandardCharsets.UTF_8));
+
+            mac.init(new SecretKeySpec(pseudoRandomKey, "HmacSHA256"));
+            mac.update(info);
+            mac.update((byte) 1);
+            return Arrays.copyOf(mac.doFinal(), WRAPPING_KEY_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey, ECPublicKey publicKey, Instant activatesAt) {
+    }
+
+    private record Snapshot(SigningKey current, SigningKey newest, Map<String, ECPublicKey> publicKeys, long version) {
+        static final Snapshot EMPTY = new Snapshot(null, null, Map.of(), 0);
+    }
+}
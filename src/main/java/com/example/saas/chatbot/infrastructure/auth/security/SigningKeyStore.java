@@ -0,0 +1,28 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Shared storage for the signing key ring, so every node signs with and publishes the same keys.
+ */
+public interface SigningKeyStore {
+
+    List<StoredKey> findAll();
+
+    void save(StoredKey key);
+
+    /**
+     * Marks keys that activated before {@code activatedBefore} and are not yet retired as retired at {@code now}.
+     */
+    void retireActivatedBefore(Instant activatedBefore, Instant now);
+
+    int deleteRetiredBefore(Instant retiredBefore);
+
+    /**
+     * A key as persisted: X.509 public key and encrypted PKCS#8 private key.
+     */
+    record StoredKey(String kid, String algorithm, byte[] publicKey, byte[] encryptedPrivateKey,
+                     Instant createdAt, Instant activatesAt, Instant retiredAt) {
+    }
+}
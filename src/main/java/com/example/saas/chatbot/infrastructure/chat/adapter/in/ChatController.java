@@ -0,0 +1,55 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.in;
+
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.port.in.ChatUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/chat")
+@RequiredArgsConstructor
+public class ChatController {
+
+    private final ChatUseCase chatUseCase;
+    private final ChatStreamer chatStreamer;
+
+    @PostMapping
+    public ResponseEntity<ChatResponse.ConversationView> startConversation(
+            @Valid @RequestBody(required = false) ChatRequest.StartConversation request,
+            Authentication authentication) {
+        Conversation conversation = chatUseCase.startConversation(authentication.getName(),
+                request != null ? request.title() : null);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ChatResponse.ConversationView.from(conversation));
+    }
+
+    @GetMapping("/{conversationId}/messages")
+    public ResponseEntity<List<ChatResponse.MessageView>> history(@PathVariable String conversationId,
+                                                                  Authentication authentication) {
+        List<ChatResponse.MessageView> messages = chatUseCase.history(authentication.getName(), conversationId).stream()
+                .map(ChatResponse.MessageView::from)
+                .toList();
+        return ResponseEntity.ok(messages);
+    }
+
+    /**
+     * Stores the message, then streams the reply as Server-Sent Events: {@code token} events
+     * with the reply's pieces, then one {@code done} event, or an {@code error} event. An unknown
+     * conversation or an invalid body is answered with a plain JSON error before any event.
+     */
+    @PostMapping("/{conversationId}/messages")
+    public SseEmitter sendMessage(@PathVariable String conversationId,
+                                  @Valid @RequestBody ChatRequest.SendMessage request,
+                                  Authentication authentication) {
+        chatUseCase.postMessage(authentication.getName(), conversationId, request.content());
+        return chatStreamer.stream(authentication.getName(), conversationId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.in;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class ChatRequest {
+    public record StartConversation(
+            @Size(max = 200, message = "Must be at most 200 characters")
+            String title
+    ) {}
+
+    public record SendMessage(
+            @NotBlank(message = "Content is required")
+            @Size(max = 8000, message = "Must be at most 8000 characters")
+            String content
+    ) {}
+}
@@ -0,0 +1,46 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.in;
+
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.ChatReply;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+
+import java.time.Instant;
+
+public class ChatResponse {
+    public record ConversationView(
+            String id,
+            String title,
+            Instant createdAt
+    ) {
+        public static ConversationView from(Conversation conversation) {
+            return new ConversationView(conversation.id(), conversation.title(), conversation.createdAt());
+        }
+    }
+
+    public record MessageView(
+            long sequence,
+            String role,
+            String content,
+            Instant createdAt
+    ) {
+        public static MessageView from(ChatMessage message) {
+            return new MessageView(message.sequence(), message.role().name(), message.content(), message.createdAt());
+        }
+    }
+
+    // SSE "token" event: the next piece of the reply, to be appended as is
+    public record TokenEvent(String text) {}
+
+    // SSE "done" event, once the reply is stored
+    public record DoneEvent(
+            long sequence,
+            int tokens,
+            long timeToFirstTokenMs,
+            double tokensPerSecond
+    ) {
+        public static DoneEvent from(ChatReply reply) {
+            return new DoneEvent(reply.message().sequence(), reply.tokens(),
+                    reply.timeToFirstToken().toMillis(), reply.tokensPerSecond());
+        }
+    }
+}
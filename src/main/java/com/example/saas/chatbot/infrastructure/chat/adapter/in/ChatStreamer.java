@@ -0,0 +1,167 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.in;
+
+import com.example.saas.chatbot.application.shared.dto.ApiResponse;
+import com.example.saas.chatbot.domain.chat.model.ChatReply;
+import com.example.saas.chatbot.domain.chat.port.in.ChatUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs each reply stream on its own virtual thread and writes it to an {@link SseEmitter}. The
+ * request thread returns as soon as the emitter is handed to Spring MVC, which keeps the
+ * response open asynchronously, so an open stream holds no servlet thread.
+ *
+ * <p>Each token is written and flushed from the stream's thread. When a slow client stops
+ * reading and the socket buffer fills, the write blocks that virtual thread, which stops pulling
+ * tokens from the provider: backpressure reaches the model instead of piling up tokens in
+ * memory. A client that disconnects fails the next write, which abandons the reply.
+ *
+ * <p>Whatever ends the response first, a broken connection or {@code chat.stream.timeout},
+ * interrupts the stream's thread, so a write blocked on a client that stopped reading or a
+ * provider still generating does not outlive the response. A timed-out stream is completed
+ * rather than left to Spring MVC, which would otherwise report it as a server error on a
+ * response that is already streaming.
+ */
+@Slf4j
+@Component
+public class ChatStreamer implements DisposableBean {
+
+    private final ChatUseCase chatUseCase;
+    private final long timeoutMillis;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-stream-", 0).factory());
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer timeToFirstToken;
+    private final DistributionSummary tokensPerSecond;
+    private final Counter tokens;
+    private final Counter completed;
+    private final Counter aborted;
+    private final Counter failed;
+
+    public ChatStreamer(ChatUseCase chatUseCase,
+                        @Value("${chat.stream.timeout:2m}") Duration timeout,
+                        MeterRegistry meterRegistry) {
+        this.chatUseCase = chatUseCase;
+        this.timeoutMillis = timeout.toMillis();
+        this.timeToFirstToken = Timer.builder("chat.stream.first_token")
+                .description("Time from the start of a reply to its first token")
+                .register(meterRegistry);
+        this.tokensPerSecond = DistributionSummary.builder("chat.stream.tokens_per_second")
+                .description("Tokens per second over each complete reply")
+                .register(meterRegistry);
+        this.tokens = Counter.builder("chat.stream.tokens")
+                .description("Tokens streamed to clients")
+                .register(meterRegistry);
+        this.completed = streams(meterRegistry, "completed");
+        this.aborted = streams(meterRegistry, "aborted");
+        this.failed = streams(meterRegistry, "failed");
+        Gauge.builder("chat.streams.active", active, AtomicInteger::get)
+                .description("Reply streams currently open")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter stream(String ownerEmail, String conversationId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicBoolean closed = new AtomicBoolean();
+        Future<?> generation = executor.submit(() -> run(emitter, closed, ownerEmail, conversationId));
+        Runnable abandon = () -> {
+            closed.set(true);
+            generation.cancel(true);
+        };
+        emitter.onTimeout(() -> {
+            abandon.run();
+            emitter.complete();
+        });
+        emitter.onError(error -> abandon.run());
+        emitter.onCompletion(abandon);
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, AtomicBoolean closed, String ownerEmail, String conversationId) {
+        active.incrementAndGet();
+        try {
+            ChatReply reply = chatUseCase.streamReply(ownerEmail, conversationId,
+                    token -> send(emitter, SseEmitter.event().name("token").data(new ChatResponse.TokenEvent(token),
+                            MediaType.APPLICATION_JSON)));
+            send(emitter, SseEmitter.event().name("done").data(ChatResponse.DoneEvent.from(reply),
+                    MediaType.APPLICATION_JSON));
+            emitter.complete();
+
+            timeToFirstToken.record(reply.timeToFirstToken());
+            tokensPerSecond.record(reply.tokensPerSecond());
+            tokens.increment(reply.tokens());
+            completed.increment();
+        } catch (StreamClosedException e) {
+            // the client went away or the stream timed out; the response is over, nothing left to send
+            log.debug("Chat stream for {} abandoned: {}", conversationId, e.getCause().getMessage());
+            aborted.increment();
+        } catch (RuntimeException e) {
+            if (closed.get()) {
+                // interrupted because the response ended, typically while the provider was generating
+                log.debug("Chat stream for {} abandoned: {}", conversationId, e.getMessage());
+                aborted.increment();
+            } else {
+                log.warn("Chat stream for {} failed", conversationId, e);
+                failed.increment();
+                sendError(emitter);
+            }
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // IllegalStateException: the emitter was already completed, e.g. by the timeout
+            throw new StreamClosedException(e);
+        }
+    }
+
+    private static void sendError(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(ApiResponse.error("chat/stream-failed",
+                    "Reply Failed", 500, "The reply could not be completed"), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // already disconnected or timed out
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static Counter streams(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("chat.streams")
+                .description("Reply streams by how they ended")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class StreamClosedException extends RuntimeException {
+
+        StreamClosedException(Exception cause) {
+            super(cause);
+        }
+    }
+}
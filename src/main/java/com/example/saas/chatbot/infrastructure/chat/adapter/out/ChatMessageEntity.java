@@ -0,0 +1,38 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "chat_messages", uniqueConstraints = @UniqueConstraint(
+        name = "uk_chat_messages_sequence", columnNames = {"conversation_id", "sequence"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "conversation_id", nullable = false, length = 36)
+    private String conversationId;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MessageRole role;
+
+    @Column(nullable = false, length = 32000)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,11 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChatMessageJpaRepository extends JpaRepository<ChatMessageEntity, Long> {
+
+    List<ChatMessageEntity> findByConversationIdOrderBySequenceDesc(String conversationId, Limit limit);
+}
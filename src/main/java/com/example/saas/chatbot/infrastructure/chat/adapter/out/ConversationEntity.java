@@ -0,0 +1,33 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "conversations", indexes = @Index(name = "idx_conversations_owner", columnList = "owner_email"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConversationEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "owner_email", nullable = false)
+    private String ownerEmail;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // the sequence of the newest message, advanced under the row lock when messages are appended
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
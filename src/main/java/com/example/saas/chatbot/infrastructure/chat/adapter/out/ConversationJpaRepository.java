@@ -0,0 +1,16 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ConversationJpaRepository extends JpaRepository<ConversationEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConversationEntity c WHERE c.id = :id")
+    Optional<ConversationEntity> lockById(@Param("id") String id);
+}
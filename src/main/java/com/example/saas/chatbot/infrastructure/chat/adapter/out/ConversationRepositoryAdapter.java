@@ -0,0 +1,87 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import com.example.saas.chatbot.domain.chat.exception.ConversationNotFoundException;
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import com.example.saas.chatbot.domain.chat.port.out.ConversationRepositoryPort;
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaReads;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class ConversationRepositoryAdapter implements ConversationRepositoryPort {
+
+    private final ConversationJpaRepository conversationRepository;
+    private final ChatMessageJpaRepository messageRepository;
+    private final ReplicaReads replicaReads;
+
+    @Override
+    public Conversation save(Conversation conversation) {
+        conversationRepository.save(ConversationEntity.builder()
+                .id(conversation.id())
+                .ownerEmail(conversation.ownerEmail())
+                .title(conversation.title())
+                .createdAt(conversation.createdAt())
+                .lastSequence(0)
+                .build());
+        return conversation;
+    }
+
+    @Override
+    public Optional<Conversation> findById(String conversationId) {
+        // the first message usually follows the conversation's creation within milliseconds
+        return replicaReads.find(() -> conversationRepository.findById(conversationId)).map(this::toDomain);
+    }
+
+    // one transaction per message, durable on return; the row lock serializes appends to one
+    // conversation, so sequences never collide or skip
+    @Override
+    @Transactional
+    public CompletableFuture<ChatMessage> appendMessage(String conversationId, MessageRole role, String content) {
+        ConversationEntity conversation = conversationRepository.lockById(conversationId)
+                .orElseThrow(() -> new ConversationNotFoundException(conversationId));
+        conversation.setLastSequence(conversation.getLastSequence() + 1);
+
+        ChatMessageEntity saved = messageRepository.save(ChatMessageEntity.builder()
+                .conversationId(conversationId)
+                .sequence(conversation.getLastSequence())
+                .role(role)
+                .content(content)
+                .createdAt(Instant.now())
+                .build());
+        return CompletableFuture.completedFuture(toDomain(saved));
+    }
+
+    // read-write so it stays on the primary: the context must include the message just posted
+    @Override
+    @Transactional
+    public List<ChatMessage> findRecentMessages(String conversationId, int limit) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (ChatMessageEntity entity : messageRepository.findByConversationIdOrderBySequenceDesc(
+                conversationId, Limit.of(limit))) {
+            messages.add(toDomain(entity));
+        }
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    private Conversation toDomain(ConversationEntity entity) {
+        return new Conversation(entity.getId(), entity.getOwnerEmail(), entity.getTitle(), entity.getCreatedAt());
+    }
+
+    private ChatMessage toDomain(ChatMessageEntity entity) {
+        return new ChatMessage(entity.getConversationId(), entity.getSequence(), entity.getRole(),
+                entity.getContent(), entity.getCreatedAt());
+    }
+}
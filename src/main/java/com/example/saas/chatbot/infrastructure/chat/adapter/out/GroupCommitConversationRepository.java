@@ -0,0 +1,326 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import com.example.saas.chatbot.domain.chat.exception.ConversationNotFoundException;
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import com.example.saas.chatbot.domain.chat.port.out.ConversationRepositoryPort;
+import com.example.saas.chatbot.domain.shared.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind {@link ConversationRepositoryPort}: {@link #appendMessage} puts the message on a
+ * bounded queue and returns. One writer thread takes up to {@code batchSize} queued messages,
+ * waiting at most {@code maxDelay} after the first for the batch to fill, and commits them in a
+ * single transaction: one batched {@code UPDATE} per conversation reserves a range of sequence
+ * numbers from {@code last_sequence}, and one JDBC batch inserts the messages. Messages of a
+ * conversation are numbered in the order they were queued, and several nodes can write to the
+ * same conversation because the range is reserved under the row lock.
+ *
+ * <p>The returned future completes once the batch has committed, which is the durability
+ * acknowledgement. A full queue rejects the message immediately with
+ * {@link RateLimitExceededException}. A failed batch is retried a few times, then its messages
+ * are committed one by one so only the ones the database rejects fail. The writer stops after
+ * the web server and writes everything still queued first.
+ *
+ * <p>Conversations, lookups and reads go straight to the per-row adapter.
+ */
+@Slf4j
+public class GroupCommitConversationRepository implements ConversationRepositoryPort, SmartLifecycle {
+
+    private static final String RESERVE_SEQUENCES =
+            "UPDATE conversations SET last_sequence = last_sequence + ? WHERE id = ?";
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO chat_messages (conversation_id, sequence, role, content, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long IDLE_POLL_MILLIS = 50;
+
+    private final ConversationRepositoryPort delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Counter written;
+    private final Counter rejected;
+    private final Counter failures;
+    private final Timer writeTime;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public GroupCommitConversationRepository(ConversationRepositoryPort delegate,
+                                             JdbcTemplate jdbcTemplate,
+                                             TransactionTemplate transactionTemplate,
+                                             int queueCapacity,
+                                             int batchSize,
+                                             Duration maxDelay,
+                                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.written = Counter.builder("chat.messages.written")
+                .description("Chat messages committed by the write-behind writer")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("chat.messages.rejected")
+                .description("Chat messages rejected because the write queue was full")
+                .register(meterRegistry);
+        this.failures = Counter.builder("chat.messages.write.failures")
+                .description("Chat message batches that failed to commit")
+                .register(meterRegistry);
+        this.writeTime = Timer.builder("chat.messages.write")
+                .description("Time to commit one batch of chat messages")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("chat.messages.batch")
+                .description("Chat messages committed per transaction")
+                .register(meterRegistry);
+        Gauge.builder("chat.messages.queued", queue, BlockingQueue::size)
+                .description("Chat messages queued and not yet committed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Conversation save(Conversation conversation) {
+        return delegate.save(conversation);
+    }
+
+    @Override
+    public Optional<Conversation> findById(String conversationId) {
+        return delegate.findById(conversationId);
+    }
+
+    @Override
+    public CompletableFuture<ChatMessage> appendMessage(String conversationId, MessageRole role, String content) {
+        if (!running) {
+            throw new IllegalStateException("The chat message writer is not running");
+        }
+        PendingMessage pending = new PendingMessage(conversationId, role, content, Instant.now(),
+                new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new RateLimitExceededException("Chat is busy, try again shortly", 1);
+        }
+        // stop() may have drained the queue since the check above; if the message is still queued
+        // nobody will take it, and if it is gone the writer or stop() completes its future
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("The chat message writer is not running");
+        }
+        return pending.stored();
+    }
+
+    // only sees messages that are already durable, which is every message a caller has waited for
+    @Override
+    public List<ChatMessage> findRecentMessages(String conversationId, int limit) {
+        return delegate.findRecentMessages(conversationId, limit);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("chat-message-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        // an append that raced with the final drain would otherwise wait forever
+        PendingMessage stranded;
+        while ((stranded = queue.poll()) != null) {
+            stranded.stored().completeExceptionally(new IllegalStateException("The chat message writer has stopped"));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    // stop after the web server has finished its requests, so their messages are written too
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void writeLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                if (collect(batch)) {
+                    write(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            log.warn("Chat message writer interrupted with {} messages queued", queue.size());
+        }
+    }
+
+    // flushes when the batch is full or maxDelay after its first message, and at once when stopping
+    private boolean collect(List<PendingMessage> batch) throws InterruptedException {
+        PendingMessage first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    private void write(List<PendingMessage> batch) {
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                List<ChatMessage> stored = transactionTemplate.execute(status -> insert(batch));
+                writeTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSizes.record(batch.size());
+                acknowledge(batch, stored);
+                batch.clear();
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("Failed to store {} chat messages as a batch, storing them one by one", batch.size(), e);
+                    writeOneByOne(batch);
+                    batch.clear();
+                    return;
+                }
+                log.warn("Storing {} chat messages failed, retrying: {}", batch.size(), e.getMessage());
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    // isolates a message the database rejects, such as an oversized one, from the rest of its batch
+    private void writeOneByOne(List<PendingMessage> batch) {
+        for (PendingMessage pending : batch) {
+            List<PendingMessage> single = List.of(pending);
+            try {
+                acknowledge(single, transactionTemplate.execute(status -> insert(single)));
+                batchSizes.record(1);
+            } catch (RuntimeException e) {
+                log.warn("Chat message for {} could not be stored: {}", pending.conversationId(), e.getMessage());
+                pending.stored().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Reserves each conversation's sequence numbers and inserts the batch, returning the stored
+     * messages in batch order with {@code null} for conversations that do not exist.
+     */
+    private List<ChatMessage> insert(List<PendingMessage> batch) {
+        // rows are locked in id order, so two nodes committing overlapping batches cannot deadlock
+        Map<String, Integer> counts = new TreeMap<>();
+        for (PendingMessage pending : batch) {
+            counts.merge(pending.conversationId(), 1, Integer::sum);
+        }
+        List<Map.Entry<String, Integer>> reservations = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(RESERVE_SEQUENCES, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setInt(1, reservation.getValue());
+            ps.setString(2, reservation.getKey());
+        });
+
+        Map<String, Long> nextSequence = new HashMap<>();
+        jdbcTemplate.query("SELECT id, last_sequence FROM conversations WHERE id IN ("
+                        + String.join(", ", Collections.nCopies(counts.size(), "?")) + ")",
+                rs -> {
+                    String id = rs.getString(1);
+                    nextSequence.put(id, rs.getLong(2) - counts.get(id) + 1);
+                },
+                counts.keySet().toArray());
+
+        List<ChatMessage> stored = new ArrayList<>(batch.size());
+        List<ChatMessage> rows = new ArrayList<>(batch.size());
+        for (PendingMessage pending : batch) {
+            Long sequence = nextSequence.get(pending.conversationId());
+            if (sequence == null) {
+                stored.add(null);
+                continue;
+            }
+            nextSequence.put(pending.conversationId(), sequence + 1);
+            ChatMessage message = new ChatMessage(pending.conversationId(), sequence, pending.role(),
+                    pending.content(), pending.createdAt());
+            stored.add(message);
+            rows.add(message);
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE, rows, rows.size(), (ps, message) -> {
+                ps.setString(1, message.conversationId());
+                ps.setLong(2, message.sequence());
+                ps.setString(3, message.role().name());
+                ps.setString(4, message.content());
+                ps.setTimestamp(5, Timestamp.from(message.createdAt()));
+            });
+        }
+        return stored;
+    }
+
+    private void acknowledge(List<PendingMessage> batch, List<ChatMessage> stored) {
+        int count = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage pending = batch.get(i);
+            ChatMessage message = stored.get(i);
+            if (message == null) {
+                pending.stored().completeExceptionally(new ConversationNotFoundException(pending.conversationId()));
+            } else {
+                pending.stored().complete(message);
+                count++;
+            }
+        }
+        written.increment(count);
+    }
+
+    private record PendingMessage(String conversationId, MessageRole role, String content, Instant createdAt,
+                                  CompletableFuture<ChatMessage> stored) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import com.example.saas.chatbot.domain.chat.port.out.LlmProviderPort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local stand-in for a model provider. The reply to a message is always the same: "You said:"
+ * followed by the message's words, one token per word including its trailing space. It waits
+ * {@code firstTokenDelay} before the first token and {@code tokenDelay} between the others, so
+ * streaming and its timing can be exercised without a network or a key.
+ */
+public class StubLlmProvider implements LlmProviderPort {
+
+    private final Duration firstTokenDelay;
+    private final Duration tokenDelay;
+
+    public StubLlmProvider(Duration firstTokenDelay, Duration tokenDelay) {
+        this.firstTokenDelay = firstTokenDelay;
+        this.tokenDelay = tokenDelay;
+    }
+
+    @Override
+    public void streamReply(List<ChatMessage> conversation, Consumer<String> onToken) {
+        List<String> tokens = tokensFor(lastUserMessage(conversation));
+        sleep(firstTokenDelay);
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i > 0) {
+                sleep(tokenDelay);
+            }
+            onToken.accept(tokens.get(i));
+        }
+    }
+
+    /**
+     * The tokens the stub answers {@code message} with.
+     */
+    public static List<String> tokensFor(String message) {
+        List<String> tokens = new ArrayList<>();
+        tokens.add("You ");
+        tokens.add("said: ");
+        String[] words = message.strip().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            tokens.add(i < words.length - 1 ? words[i] + " " : words[i]);
+        }
+        return tokens;
+    }
+
+    private static String lastUserMessage(List<ChatMessage> conversation) {
+        for (int i = conversation.size() - 1; i >= 0; i--) {
+            if (conversation.get(i).role() == MessageRole.USER) {
+                return conversation.get(i).content();
+            }
+        }
+        return "nothing";
+    }
+
+    private static void sleep(Duration delay) {
+        if (delay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating a reply", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.saas.chatbot.infrastructure.chat.config;
+
+import com.example.saas.chatbot.application.service.chat.ChatService;
+import com.example.saas.chatbot.domain.chat.port.in.ChatUseCase;
+import com.example.saas.chatbot.domain.chat.port.out.ConversationRepositoryPort;
+import com.example.saas.chatbot.domain.chat.port.out.LlmProviderPort;
+import com.example.saas.chatbot.infrastructure.chat.adapter.out.ConversationRepositoryAdapter;
+import com.example.saas.chatbot.infrastructure.chat.adapter.out.GroupCommitConversationRepository;
+import com.example.saas.chatbot.infrastructure.chat.adapter.out.StubLlmProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class ChatConfig {
+
+    @Bean
+    public ChatUseCase chatUseCase(ConversationRepositoryPort conversationRepository,
+                                   LlmProviderPort llmProvider,
+                                   @Value("${chat.context-messages:20}") int contextMessages,
+                                   @Value("${chat.persistence.store-timeout:10s}") Duration storeTimeout) {
+        return new ChatService(conversationRepository, llmProvider, contextMessages, storeTimeout);
+    }
+
+    /**
+     * Group-commits appended messages behind the JPA adapter; with
+     * {@code chat.persistence.write-behind=false} every message is its own transaction instead.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "chat.persistence.write-behind", havingValue = "true", matchIfMissing = true)
+    public GroupCommitConversationRepository groupCommitConversationRepository(
+            ConversationRepositoryAdapter conversationRepositoryAdapter,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.persistence.queue-capacity:4096}") int queueCapacity,
+            @Value("${chat.persistence.batch-size:128}") int batchSize,
+            @Value("${chat.persistence.max-delay:2ms}") Duration maxDelay,
+            MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // never joins a caller's transaction; the writer thread has none anyway
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new GroupCommitConversationRepository(conversationRepositoryAdapter, jdbcTemplate, transactionTemplate,
+                queueCapacity, batchSize, maxDelay, meterRegistry);
+    }
+
+    // the only provider so far; a real one is selected with another chat.llm.provider value
+    @Bean
+    @ConditionalOnProperty(name = "chat.llm.provider", havingValue = "stub", matchIfMissing = true)
+    public LlmProviderPort stubLlmProvider(@Value("${chat.llm.stub.first-token-delay:300ms}") Duration firstTokenDelay,
+                                           @Value("${chat.llm.stub.token-delay:30ms}") Duration tokenDelay) {
+        return new StubLlmProvider(firstTokenDelay, tokenDelay);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.saas.chatbot.infrastructure.shared.config;
+
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaFallbackDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Splits reads from writes when {@code db.read.url} is set. Writes, and every transaction not
+ * marked read-only, keep using {@code spring.datasource}, the transaction pooler, where
+ * statements cannot be prepared server-side. {@code @Transactional(readOnly = true)} work goes
+ * to a second pool on a direct or replica connection, which prepares and caches its statements.
+ *
+ * <p>The application's data source is a {@link LazyConnectionDataSourceProxy}. It fetches the
+ * real connection at the first statement, once the transaction has marked the connection
+ * read-only, and picks the pool from that flag.
+ */
+@Configuration
+@ConditionalOnExpression("!'${db.read.url:}'.isEmpty()")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("db.read.hikari")
+    public HikariDataSource readDataSource(@Value("${db.read.url}") String url,
+                                           @Value("${db.read.username:${spring.datasource.username}}") String username,
+                                           @Value("${db.read.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("read");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaFallbackDataSource replicaFallbackDataSource(@Qualifier("readDataSource") DataSource readDataSource,
+                                                               @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                               @Value("${db.read.max-lag:5s}") Duration maxLag,
+                                                               MeterRegistry meterRegistry) {
+        return new ReplicaFallbackDataSource(readDataSource, primaryDataSource, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaFallbackDataSource replicaFallbackDataSource) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primaryDataSource);
+        routing.setReadOnlyDataSource(replicaFallbackDataSource);
+        return routing;
+    }
+}
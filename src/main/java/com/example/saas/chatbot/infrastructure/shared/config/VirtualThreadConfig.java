@@ -0,0 +1,49 @@
+package com.example.saas.chatbot.infrastructure.shared.config;
+
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ConnectionLimitingDataSource;
+import com.example.saas.chatbot.infrastructure.shared.monitoring.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Companions to {@code spring.threads.virtual.enabled=true}, under which Spring Boot already
+ * runs Tomcat requests and {@code @Scheduled} tasks on virtual threads: a permit per Hikari
+ * connection in front of the pool, and a JFR monitor for pinned carriers.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // static so the post-processor is registered without initialising this configuration early
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${jdbc.connection-limit.acquire-timeout:10s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                            acquireTimeout, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jvm.virtual-threads.pinned-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${jvm.virtual-threads.pinned-threshold:20ms}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.saas.chatbot.infrastructure.shared.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * The read side of the routing data source: connections come from the read pool while it
+ * answers and its replication lag stays within {@code maxLag}, and from the primary otherwise.
+ *
+ * <p>Lag is sampled on a schedule. A failed checkout switches reads to the primary at once and
+ * the next successful check switches them back. Against a direct connection to the primary, or
+ * outside PostgreSQL, the lag is zero.
+ */
+@Slf4j
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    // zero when this is not a standby, or when it has replayed everything it received
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final DataSource primary;
+    private final Duration maxLag;
+    private final Counter fallbacks;
+
+    private volatile boolean usable = true;
+    private volatile double lagSeconds;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration maxLag,
+                                     MeterRegistry meterRegistry) {
+        super(replica);
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.fallbacks = Counter.builder("db.read.fallbacks")
+                .description("Read-only connections served by the primary because the read pool was unusable")
+                .register(meterRegistry);
+        Gauge.builder("db.read.replica.lag", this, source -> source.lagSeconds)
+                .description("Replication lag of the read pool in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.read.replica.usable", this, source -> source.usable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!usable) {
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+        try {
+            return obtainTargetDataSource().getConnection();
+        } catch (SQLException e) {
+            log.warn("Read pool unavailable, reading from the primary until it recovers: {}", e.getMessage());
+            usable = false;
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!usable) {
+            fallbacks.increment();
+            return primary.getConnection(username, password);
+        }
+        try {
+            return obtainTargetDataSource().getConnection(username, password);
+        } catch (SQLException e) {
+            usable = false;
+            fallbacks.increment();
+            return primary.getConnection(username, password);
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${db.read.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        try (Connection connection = obtainTargetDataSource().getConnection()) {
+            double lag = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+                    ? queryLag(connection)
+                    : 0;
+            lagSeconds = lag;
+            boolean withinLag = lag * 1000 <= maxLag.toMillis();
+            if (withinLag != usable) {
+                log.info(withinLag
+                        ? "Read pool back within {}s of the primary, routing reads to it"
+                        : "Read pool {}s behind the primary, routing reads to the primary", lag);
+            }
+            usable = withinLag;
+        } catch (SQLException e) {
+            if (usable) {
+                log.warn("Read pool health check failed, reading from the primary: {}", e.getMessage());
+            }
+            usable = false;
+        }
+    }
+
+    private static double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+}
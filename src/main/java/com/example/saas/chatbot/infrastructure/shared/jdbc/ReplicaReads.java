@@ -0,0 +1,50 @@
+package com.example.saas.chatbot.infrastructure.shared.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Lookups for adapters whose callers may read a row right after writing it. {@link #find} reads
+ * in a read-only transaction, which routes to the read pool, and confirms a miss on the
+ * primary, since the replica may not have the row yet. {@link #onPrimary} always reads from the
+ * primary. Without a read pool every read already hits the primary, so a miss is not read
+ * twice and {@link #onPrimary} simply joins the caller's transaction.
+ */
+@Component
+public class ReplicaReads {
+
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate primary;
+    private final ObjectProvider<ReplicaFallbackDataSource> replica;
+
+    public ReplicaReads(PlatformTransactionManager transactionManager,
+                        ObjectProvider<ReplicaFallbackDataSource> replica) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.primary = new TransactionTemplate(transactionManager);
+        // a new transaction even inside a read-only one, which would otherwise keep its connection
+        this.primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.replica = replica;
+    }
+
+    public <T> Optional<T> find(Supplier<Optional<T>> lookup) {
+        Optional<T> result = readOnly.execute(status -> lookup.get());
+        if (result.isPresent() || replica.getIfAvailable() == null) {
+            return result;
+        }
+        return primary.execute(status -> lookup.get());
+    }
+
+    public <T> T onPrimary(Supplier<T> lookup) {
+        if (replica.getIfAvailable() == null) {
+            return lookup.get();
+        }
+        return primary.execute(status -> lookup.get());
+    }
+}
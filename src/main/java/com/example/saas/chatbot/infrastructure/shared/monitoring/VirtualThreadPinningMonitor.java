@@ -0,0 +1,106 @@
+package com.example.saas.chatbot.infrastructure.shared.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR's {@code jdk.VirtualThreadPinned} events: a virtual thread that blocked while it
+ * could not unmount (inside {@code synchronized}, or in native code) for longer than the
+ * threshold. Each event counts {@code jvm.threads.virtual.pinned} tagged with the first
+ * application frame, and the first event per site is logged with its stack so the monitor can
+ * be replaced with a lock.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "com.example.saas.chatbot.";
+    private static final int MAX_LOGGED_SITES = 1000;
+    private static final int LOGGED_FRAMES = 20;
+
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = site(frames);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n{}", event.getDuration().toMillis(), site,
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(frame -> "\tat " + describe(frame) + ":" + frame.getLineNumber())
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+
+    // the first frame in our own code is what has to change; fall back to the top frame
+    static String site(List<RecordedFrame> frames) {
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElseGet(() -> describe(frames.get(0)));
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.saas.chatbot.application.service.auth;
+
+import com.example.saas.chatbot.domain.auth.exception.InvalidTokenException;
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+import com.example.saas.chatbot.domain.auth.model.AuthToken;
+import com.example.saas.chatbot.domain.auth.model.RefreshToken;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.support.AuthFakes.FakeRefreshTokenRepository;
+import com.example.saas.chatbot.support.AuthFakes.FakeTokenProvider;
+import com.example.saas.chatbot.support.AuthFakes.FakeUserRepository;
+import com.example.saas.chatbot.support.AuthFakes.NoopBlacklist;
+import com.example.saas.chatbot.support.AuthFakes.NoopPasswordEncoder;
+import com.example.saas.chatbot.support.AuthFakes.RecordingAudit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthServiceRefreshTest {
+
+    private static final int CONCURRENT_REFRESHES = 32;
+
+    private FakeRefreshTokenRepository refreshTokens;
+    private RecordingAudit audit;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).email("user@example.com").password("hash").role(Role.USER).build();
+        refreshTokens = new FakeRefreshTokenRepository(user);
+        refreshTokens.save(new RefreshToken("refresh-0", user.getEmail(), Instant.now().plusSeconds(3600)));
+
+        audit = new RecordingAudit();
+        authService = new AuthService(new FakeUserRepository(user), new FakeTokenProvider(), new NoopPasswordEncoder(),
+                refreshTokens, new NoopBlacklist(), audit, new RefreshCoalescer(Duration.ofSeconds(5)), Runnable::run);
+    }
+
+    @Test
+    void concurrentRefreshesOfTheSameTokenRotateExactlyOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AuthToken>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REFRESHES)) {
+            for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authService.refresh("refresh-0");
+                }));
+            }
+            start.countDown();
+
+            AuthToken first = results.get(0).get();
+            for (Future<AuthToken> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        }
+
+        assertThat(refreshTokens.rotations.get()).isEqualTo(1);
+        assertThat(audit.events).containsExactly(AuthAuditType.REFRESHED);
+    }
+
+    @Test
+    void stragglerWithinGracePeriodReusesTheRotatedPair() {
+        AuthToken first = authService.refresh("refresh-0");
+        AuthToken straggler = authService.refresh("refresh-0");
+
+        assertThat(straggler).isSameAs(first);
+        assertThat(refreshTokens.rotations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loggedOutSessionIsNotReplayedToTheRotatedToken() {
+        AuthToken rotated = authService.refresh("refresh-0");
+        authService.logout(rotated.getAccessToken(), rotated.getRefreshToken());
+
+        assertThatThrownBy(() -> authService.refresh("refresh-0")).isInstanceOf(InvalidTokenException.class);
+        assertThat(refreshTokens.rotations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void errorInRotationReachesWaitersInsteadOfStrandingThem() throws Exception {
+        RefreshCoalescer coalescer = new RefreshCoalescer(Duration.ofSeconds(5));
+        CountDownLatch rotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<AuthToken> first = executor.submit(() -> coalescer.execute("refresh-0", token -> {
+                rotating.countDown();
+                await(release);
+                throw new StackOverflowError("rotation blew up");
+            }, rotated -> true));
+            rotating.await();
+            Future<AuthToken> waiter = executor.submit(() -> coalescer.execute("refresh-0",
+                    token -> new AuthToken("access", "refresh"), rotated -> true));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThatThrownBy(first::get).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        }
+    }
+
+    @Test
+    void failedRotationIsNotReplayed() {
+        assertThatThrownBy(() -> authService.refresh("unknown")).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> authService.refresh("unknown")).isInstanceOf(InvalidTokenException.class);
+
+        assertThat(refreshTokens.lookups.get()).isEqualTo(2);
+        assertThat(audit.events).containsExactly(AuthAuditType.REFRESH_FAILED, AuthAuditType.REFRESH_FAILED);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.saas.chatbot.application.service.auth;
+
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
+import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
+import com.example.saas.chatbot.support.AuthFakes;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthServiceRehashTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "correct horse";
+
+    private final PasswordEncoder encoder = delegating(5);
+    private final RecordingUserRepository users = new RecordingUserRepository();
+
+    @Test
+    void loginWithLegacyUnprefixedHashRehashesWithPrefix() {
+        users.store(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        service().login(EMAIL, PASSWORD);
+
+        assertThat(users.updates).isEqualTo(1);
+        assertThat(users.hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches(PASSWORD, users.hash)).isTrue();
+    }
+
+    @Test
+    void loginWithLowerCostHashRehashes() {
+        users.store(delegating(4).encode(PASSWORD));
+
+        service().login(EMAIL, PASSWORD);
+
+        assertThat(users.hash).startsWith("{bcrypt}$2a$05$");
+    }
+
+    @Test
+    void loginWithOnTargetHashDoesNotRehash() {
+        users.store(encoder.encode(PASSWORD));
+
+        service().login(EMAIL, PASSWORD);
+
+        assertThat(users.updates).isZero();
+    }
+
+    private AuthService service() {
+        return new AuthService(users, new AuthFakes.FakeTokenProvider(), new EncoderPort(encoder),
+                new AuthFakes.FakeRefreshTokenRepository(users.user()), new AuthFakes.NoopBlacklist(), (type, subject) -> { },
+                new RefreshCoalescer(Duration.ofSeconds(5)), Runnable::run);
+    }
+
+    private static PasswordEncoder delegating(int strength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    record EncoderPort(PasswordEncoder encoder) implements PasswordEncoderPort {
+
+        @Override
+        public String encode(String rawPassword) {
+            return encoder.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return encoder.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean needsRehash(String encodedPassword) {
+            return encoder.upgradeEncoding(encodedPassword);
+        }
+    }
+
+    static class RecordingUserRepository implements UserRepositoryPort {
+
+        private String hash;
+        private int updates;
+
+        void store(String hash) {
+            this.hash = hash;
+        }
+
+        User user() {
+            return User.builder().id(1L).email(EMAIL).password(hash).role(Role.USER).build();
+        }
+
+        @Override
+        public User save(User user) {
+            return user;
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return EMAIL.equals(email) ? Optional.of(user()) : Optional.empty();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return EMAIL.equals(email);
+        }
+
+        @Override
+        public void updatePassword(String email, String encodedPassword) {
+            hash = encodedPassword;
+            updates++;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.saas.chatbot.application.service.auth;
+
+import com.example.saas.chatbot.application.shared.dto.ApiResponse;
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
+import com.example.saas.chatbot.application.shared.exception.GlobalExceptionHandler;
+import com.example.saas.chatbot.domain.auth.exception.InvalidCredentialsException;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.support.AuthFakes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static com.example.saas.chatbot.support.Allocations.bytesPerCall;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RejectedLoginAllocationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AuthService authService;
+    private GlobalExceptionHandler exceptionHandler;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).email("user@example.com").password("hash").role(Role.USER).build();
+        authService = new AuthService(new AuthFakes.FakeUserRepository(user),
+                new AuthFakes.FakeTokenProvider(), new AuthFakes.NoopPasswordEncoder(),
+                new AuthFakes.FakeRefreshTokenRepository(user), new AuthFakes.NoopBlacklist(),
+                (type, subject) -> { }, new RefreshCoalescer(Duration.ofSeconds(5)), Runnable::run);
+        exceptionHandler = new GlobalExceptionHandler(new SimpleMeterRegistry(), new ResponseBodies(objectMapper));
+    }
+
+    @Test
+    void rejectionRendersTheSameBodyAsBefore() throws Exception {
+        ResponseEntity<byte[]> response = rejectedLogin("unknown@example.com", "password");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(ApiResponse.error("auth/invalid-credentials",
+                        "Authentication Failed", 401, "Invalid email or password")));
+    }
+
+    @Test
+    void rejectedLoginAllocatesLittleMoreThanTheException() {
+        long unknownEmail = bytesPerCall(() -> rejectedLogin("unknown@example.com", "password"));
+        long wrongPassword = bytesPerCall(() -> rejectedLogin("user@example.com", "wrong"));
+
+        long legacy = bytesPerCall(() -> {
+            RuntimeException e = new RuntimeException("Invalid email or password");
+            return objectMapper.writeValueAsBytes(ApiResponse.error("auth/invalid-credentials",
+                    "Authentication Failed", 401, e.getMessage()));
+        });
+
+        assertThat(unknownEmail).isLessThanOrEqualTo(256);
+        assertThat(wrongPassword).isLessThanOrEqualTo(256);
+        assertThat(unknownEmail * 4).isLessThan(legacy);
+    }
+
+    private ResponseEntity<byte[]> rejectedLogin(String email, String password) {
+        try {
+            authService.login(email, password);
+        } catch (InvalidCredentialsException e) {
+            return exceptionHandler.handleInvalidCredentials(e);
+        }
+        throw new AssertionError("login was not rejected");
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.saas.chatbot.application.service.auth;
+
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport;
+import com.example.saas.chatbot.domain.auth.model.ProvisioningReport.Status;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.model.UserImportRow;
+import com.example.saas.chatbot.domain.auth.port.out.UserBulkRepositoryPort;
+import com.example.saas.chatbot.support.AuthFakes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UserProvisioningServiceTest {
+
+    private final RecordingBulkRepository users = new RecordingBulkRepository();
+    private final UserProvisioningService service =
+            new UserProvisioningService(users, new AuthFakes.NoopPasswordEncoder(), 2);
+
+    @Test
+    void hashesRawPasswordsAndKeepsPrefixedHashes() {
+        ProvisioningReport report = service.provision(List.of(
+                new UserImportRow(2, "raw@example.com", "password-1", null, "admin"),
+                new UserImportRow(3, "hashed@example.com", null, "{bcrypt}$2a$10$existing", null)).iterator());
+
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(users.stored.get("raw@example.com").getPassword()).isEqualTo("password-1");
+        assertThat(users.stored.get("raw@example.com").getRole()).isEqualTo(Role.ADMIN);
+        assertThat(users.stored.get("hashed@example.com").getPassword()).isEqualTo("{bcrypt}$2a$10$existing");
+        assertThat(users.stored.get("hashed@example.com").getRole()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    void reportsEveryRowWhileTheRestOfTheFileIsCreated() {
+        users.stored.put("taken@example.com", User.builder().email("taken@example.com").build());
+
+        ProvisioningReport report = service.provision(List.of(
+                new UserImportRow(2, "first@example.com", "password-1", null, null),
+                new UserImportRow(3, "not-an-email", "password-1", null, null),
+                new UserImportRow(4, "taken@example.com", "password-1", null, null),
+                new UserImportRow(5, "first@example.com", "password-2", null, null),
+                new UserImportRow(6, "short@example.com", "short", null, null),
+                new UserImportRow(7, "plain@example.com", null, "$2a$10$unprefixed", null),
+                new UserImportRow(8, "role@example.com", "password-1", null, "owner"),
+                new UserImportRow(9, "last@example.com", "password-1", null, null)).iterator());
+
+        assertThat(report.rows()).extracting(ProvisioningReport.RowResult::line, ProvisioningReport.RowResult::status)
+                .containsExactly(
+                        tuple(2, Status.CREATED),
+                        tuple(3, Status.INVALID),
+                        tuple(4, Status.DUPLICATE),
+                        tuple(5, Status.DUPLICATE),
+                        tuple(6, Status.INVALID),
+                        tuple(7, Status.INVALID),
+                        tuple(8, Status.INVALID),
+                        tuple(9, Status.CREATED));
+        assertThat(report.total()).isEqualTo(8);
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(report.duplicates()).isEqualTo(2);
+        assertThat(report.invalid()).isEqualTo(4);
+        // first, taken and last in batches of two; rows rejected in memory never reach the database
+        assertThat(users.batches).containsExactly(
+                List.of("first@example.com", "taken@example.com"),
+                List.of("last@example.com"));
+    }
+
+    @Test
+    void emptyFileWritesNothing() {
+        ProvisioningReport report = service.provision(List.<UserImportRow>of().iterator());
+
+        assertThat(report.total()).isZero();
+        assertThat(users.batches).isEmpty();
+    }
+
+    static class RecordingBulkRepository implements UserBulkRepositoryPort {
+
+        final Map<String, User> stored = new LinkedHashMap<>();
+        final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public boolean[] insertIgnoringExisting(List<User> users) {
+            batches.add(users.stream().map(User::getEmail).toList());
+            boolean[] inserted = new boolean[users.size()];
+            for (int i = 0; i < users.size(); i++) {
+                inserted[i] = stored.putIfAbsent(users.get(i).getEmail(), users.get(i)) == null;
+            }
+            return inserted;
+        }
+    }
+}
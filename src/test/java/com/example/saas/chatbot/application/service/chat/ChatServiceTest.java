@@ -0,0 +1,176 @@
+package com.example.saas.chatbot.application.service.chat;
+
+import com.example.saas.chatbot.domain.chat.exception.ConversationNotFoundException;
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.ChatReply;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import com.example.saas.chatbot.domain.chat.port.out.ConversationRepositoryPort;
+import com.example.saas.chatbot.domain.chat.port.out.LlmProviderPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ChatServiceTest {
+
+    private static final String OWNER = "user@example.com";
+
+    private InMemoryConversations conversations;
+    private ChatService chatService;
+    private Conversation conversation;
+
+    @BeforeEach
+    void setUp() {
+        conversations = new InMemoryConversations();
+        chatService = new ChatService(conversations, new ScriptedProvider(Duration.ofMillis(50), "Hello", ", ", "world"), 2,
+                Duration.ofSeconds(5));
+        conversation = chatService.startConversation(OWNER, "Greetings");
+    }
+
+    @Test
+    void replyIsStreamedTokenByTokenAndStoredWhole() {
+        chatService.postMessage(OWNER, conversation.id(), "Hi");
+        List<String> streamed = new ArrayList<>();
+
+        ChatReply reply = chatService.streamReply(OWNER, conversation.id(), streamed::add);
+
+        assertThat(streamed).containsExactly("Hello", ", ", "world");
+        assertThat(reply.tokens()).isEqualTo(3);
+        assertThat(reply.timeToFirstToken()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(reply.tokensPerSecond()).isPositive();
+        assertThat(chatService.history(OWNER, conversation.id()))
+                .extracting(ChatMessage::sequence, ChatMessage::role, ChatMessage::content)
+                .containsExactly(tuple(1L, MessageRole.USER, "Hi"), tuple(2L, MessageRole.ASSISTANT, "Hello, world"));
+    }
+
+    @Test
+    void providerSeesOnlyTheLatestMessages() {
+        ScriptedProvider provider = new ScriptedProvider(Duration.ZERO, "ok");
+        chatService = new ChatService(conversations, provider, 2, Duration.ofSeconds(5));
+        chatService.postMessage(OWNER, conversation.id(), "first");
+        chatService.postMessage(OWNER, conversation.id(), "second");
+        chatService.postMessage(OWNER, conversation.id(), "third");
+
+        chatService.streamReply(OWNER, conversation.id(), token -> { });
+
+        assertThat(provider.lastContext).extracting(ChatMessage::content).containsExactly("second", "third");
+    }
+
+    @Test
+    void abandonedStreamStoresNoReply() {
+        chatService.postMessage(OWNER, conversation.id(), "Hi");
+
+        assertThatThrownBy(() -> chatService.streamReply(OWNER, conversation.id(), token -> {
+            throw new IllegalStateException("client disconnected");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(chatService.history(OWNER, conversation.id())).extracting(ChatMessage::role)
+                .containsExactly(MessageRole.USER);
+    }
+
+    @Test
+    void failedWriteSurfacesItsCause() {
+        conversations.failWrites = true;
+
+        assertThatThrownBy(() -> chatService.postMessage(OWNER, conversation.id(), "Hi"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database unavailable");
+    }
+
+    @Test
+    void unacknowledgedWriteTimesOut() {
+        chatService = new ChatService(conversations, new ScriptedProvider(Duration.ZERO, "ok"), 2, Duration.ofMillis(100));
+        conversations.neverAcknowledge = true;
+
+        assertThatThrownBy(() -> chatService.postMessage(OWNER, conversation.id(), "Hi"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Timed out");
+        // the write-behind queue still owns the future and completes it once the row lands
+        assertThat(conversations.unacknowledged).isNotDone();
+    }
+
+    @Test
+    void someoneElsesConversationLooksMissing() {
+        assertThatThrownBy(() -> chatService.postMessage("other@example.com", conversation.id(), "Hi"))
+                .isInstanceOf(ConversationNotFoundException.class);
+        assertThatThrownBy(() -> chatService.history(OWNER, "unknown"))
+                .isInstanceOf(ConversationNotFoundException.class);
+    }
+
+    static class ScriptedProvider implements LlmProviderPort {
+
+        private final Duration firstTokenDelay;
+        private final List<String> tokens;
+        List<ChatMessage> lastContext;
+
+        ScriptedProvider(Duration firstTokenDelay, String... tokens) {
+            this.firstTokenDelay = firstTokenDelay;
+            this.tokens = List.of(tokens);
+        }
+
+        @Override
+        public void streamReply(List<ChatMessage> conversation, Consumer<String> onToken) {
+            lastContext = conversation;
+            try {
+                Thread.sleep(firstTokenDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tokens.forEach(onToken);
+        }
+    }
+
+    static class InMemoryConversations implements ConversationRepositoryPort {
+
+        private final Map<String, Conversation> conversations = new HashMap<>();
+        private final Map<String, List<ChatMessage>> messages = new HashMap<>();
+        boolean failWrites;
+        boolean neverAcknowledge;
+        CompletableFuture<ChatMessage> unacknowledged;
+
+        @Override
+        public Conversation save(Conversation conversation) {
+            conversations.put(conversation.id(), conversation);
+            return conversation;
+        }
+
+        @Override
+        public Optional<Conversation> findById(String conversationId) {
+            return Optional.ofNullable(conversations.get(conversationId));
+        }
+
+        @Override
+        public CompletableFuture<ChatMessage> appendMessage(String conversationId, MessageRole role, String content) {
+            if (neverAcknowledge) {
+                unacknowledged = new CompletableFuture<>();
+                return unacknowledged;
+            }
+            if (failWrites) {
+                return CompletableFuture.failedFuture(new IllegalStateException("database unavailable"));
+            }
+            List<ChatMessage> stored = messages.computeIfAbsent(conversationId, id -> new ArrayList<>());
+            ChatMessage message = new ChatMessage(conversationId, stored.size() + 1, role, content, Instant.now());
+            stored.add(message);
+            return CompletableFuture.completedFuture(message);
+        }
+
+        @Override
+        public List<ChatMessage> findRecentMessages(String conversationId, int limit) {
+            List<ChatMessage> stored = messages.getOrDefault(conversationId, List.of());
+            return List.copyOf(stored.subList(Math.max(0, stored.size() - limit), stored.size()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.saas.chatbot.benchmark;
+
+import com.example.saas.chatbot.infrastructure.auth.security.CookieUtil;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Token extraction by {@link CookieUtil} from the cookies a browser really sends: analytics,
+ * consent and locale cookies ahead of the auth pair, so the scan walks most of the array. The
+ * API-client case carries no cookies at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CookieUtilBenchmark {
+
+    private Cookie[] browserCookies;
+    private Cookie[] anonymousCookies;
+
+    @Setup
+    public void setup() {
+        Cookie[] thirdParty = {
+                new Cookie("_ga", "GA1.1.1234567890.1712345678"),
+                new Cookie("_ga_XYZ123", "GS1.1.1712345678.3.1.1712345999.0.0.0"),
+                new Cookie("_gid", "GA1.2.987654321.1712345678"),
+                new Cookie("cookie_consent", "necessary,analytics"),
+                new Cookie("locale", "es-AR"),
+                new Cookie("theme", "dark"),
+        };
+        browserCookies = new Cookie[thirdParty.length + 2];
+        System.arraycopy(thirdParty, 0, browserCookies, 0, thirdParty.length);
+        browserCookies[thirdParty.length] = new Cookie("access_token", "eyJhbGciOiJIUzI1NiJ9." + "a".repeat(180) + ".sig");
+        browserCookies[thirdParty.length + 1] = new Cookie("refresh_token", "r".repeat(43));
+        anonymousCookies = thirdParty;
+    }
+
+    @Benchmark
+    public String accessTokenFromBrowser() {
+        return CookieUtil.extractAccessTokenFromCookies(browserCookies);
+    }
+
+    @Benchmark
+    public String refreshTokenFromBrowser() {
+        return CookieUtil.extractRefreshTokenFromCookies(browserCookies);
+    }
+
+    @Benchmark
+    public String accessTokenMissing() {
+        return CookieUtil.extractAccessTokenFromCookies(anonymousCookies);
+    }
+
+    @Benchmark
+    public String accessTokenWithoutCookies() {
+        return CookieUtil.extractAccessTokenFromCookies(null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CookieUtilBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.saas.chatbot.benchmark;
+
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenFormat;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.infrastructure.auth.security.InMemoryTokenBlacklist;
+import com.example.saas.chatbot.infrastructure.auth.security.JwtAuthenticationFilter;
+import com.example.saas.chatbot.infrastructure.auth.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * One pass of {@link JwtAuthenticationFilter} per op, on Spring's mock servlet objects with the
+ * real {@link JwtService} and {@link InMemoryTokenBlacklist}, so the numbers cover verification,
+ * the blacklist check and building the authentication. The expired-token path is left out: it
+ * refreshes through the database and belongs to the load test.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-with-at-least-32-characters";
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest bearer;
+    private MockHttpServletRequest cookie;
+    private MockHttpServletRequest revoked;
+    private MockHttpServletRequest tampered;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        JwtService jwtService = new JwtService(SECRET, 900_000, 604_800_000, RefreshTokenFormat.JWT);
+        InMemoryTokenBlacklist blacklist = new InMemoryTokenBlacklist(10_000);
+        filter = new JwtAuthenticationFilter(jwtService, blacklist, null, null,
+                new ResponseBodies(new ObjectMapper()), new SimpleMeterRegistry());
+
+        User user = User.builder().email("bench@example.com").role(Role.USER).build();
+        String token = jwtService.generateAccessToken(user);
+        String revokedToken = jwtService.generateAccessToken(user);
+        blacklist.blacklist(jwtService.verify(revokedToken).tokenId(), Instant.now().plusSeconds(900));
+
+        bearer = request();
+        bearer.addHeader("Authorization", "Bearer " + token);
+        cookie = request();
+        cookie.setCookies(new Cookie("_ga", "GA1.1.1234567890.1712345678"),
+                new Cookie("cookie_consent", "necessary,analytics"),
+                new Cookie("access_token", token));
+        revoked = request();
+        revoked.addHeader("Authorization", "Bearer " + revokedToken);
+        tampered = request();
+        tampered.addHeader("Authorization", "Bearer " + token.substring(0, token.length() - 4) + "AAAA");
+        anonymous = request();
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object bearerToken() throws ServletException, IOException {
+        return filter(bearer);
+    }
+
+    @Benchmark
+    public Object cookieToken() throws ServletException, IOException {
+        return filter(cookie);
+    }
+
+    @Benchmark
+    public Object revokedToken() throws ServletException, IOException {
+        return filter(revoked);
+    }
+
+    @Benchmark
+    public Object tamperedToken() throws ServletException, IOException {
+        return filter(tampered);
+    }
+
+    @Benchmark
+    public Object noToken() throws ServletException, IOException {
+        return filter(anonymous);
+    }
+
+    private Object filter(MockHttpServletRequest request) throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/auth/sessions");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.saas.chatbot.benchmark;
+
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenFormat;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.infrastructure.auth.security.JwtService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Compares the per-request verification cost of the filter before and after the
+ * single-pass {@link JwtService#verify(String)} API.
+ *
+ * <p>The legacy methods reproduce what the filter used to do: a valid token was parsed by
+ * {@code isTokenValid} and again by {@code extractEmail}, an expired one by {@code isTokenValid}
+ * and {@code isTokenExpired}, each parse building its own key and parser. That is two HMAC
+ * computations per request against one for {@code verify}. Run with the GC profiler to compare
+ * {@code gc.alloc.rate.norm}. Signing is measured too, since login and every refresh mint one
+ * access and one refresh token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-with-at-least-32-characters";
+
+    private JwtService jwtService;
+    private User user;
+    private String validToken;
+    private String expiredToken;
+
+    @Setup
+    public void setup() {
+        user = User.builder().email("bench@example.com").role(Role.USER).build();
+        jwtService = new JwtService(SECRET, 900_000, 604_800_000, RefreshTokenFormat.JWT);
+        validToken = jwtService.generateAccessToken(user);
+        expiredToken = new JwtService(SECRET, -60_000, -60_000, RefreshTokenFormat.JWT).generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public TokenVerification verifyValid() {
+        return jwtService.verify(validToken);
+    }
+
+    @Benchmark
+    public TokenVerification verifyExpired() {
+        return jwtService.verify(expiredToken);
+    }
+
+    @Benchmark
+    public String legacyValid() {
+        if (!legacyIsTokenValid(validToken)) return null;
+        return legacyExtractEmail(validToken);
+    }
+
+    @Benchmark
+    public boolean legacyExpired() {
+        return !legacyIsTokenValid(expiredToken) && legacyIsTokenExpired(expiredToken);
+    }
+
+    private static String legacyExtractEmail(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    private static boolean legacyIsTokenValid(String token) {
+        try {
+            legacyExtractEmail(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean legacyIsTokenExpired(String token) {
+        try {
+            legacyExtractEmail(token);
+            return false;
+        } catch (ExpiredJwtException e) {
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.saas.chatbot.benchmark;
+
+import com.example.saas.chatbot.infrastructure.auth.security.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Acquire throughput of {@link RateLimiter} at 64 threads against a token bucket map guarded by
+ * one lock, both on a single hot key (every thread is the same abusive client) and spread over
+ * 10k keys (normal traffic). The limits are high enough that every acquire succeeds.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class RateLimiterBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final int CAPACITY = Integer.MAX_VALUE;
+
+    @State(Scope.Benchmark)
+    public static class Limiters {
+
+        RateLimiter gcra;
+        SynchronizedTokenBucket synchronizedBucket;
+        String[] keys;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            gcra = new RateLimiter(CAPACITY, Duration.ofMinutes(1));
+            synchronizedBucket = new SynchronizedTokenBucket(CAPACITY, Duration.ofMinutes(1));
+            keys = new String[KEYS];
+            for (int i = 0; i < KEYS; i++) {
+                keys[i] = "10.0." + (i >> 8) + "." + (i & 0xff);
+            }
+        }
+
+        String randomKey() {
+            return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+        }
+    }
+
+    @Benchmark
+    public long gcraHotKey(Limiters limiters) {
+        return limiters.gcra.tryAcquire("10.0.0.1");
+    }
+
+    @Benchmark
+    public long gcraSpread(Limiters limiters) {
+        return limiters.gcra.tryAcquire(limiters.randomKey());
+    }
+
+    @Benchmark
+    public boolean synchronizedHotKey(Limiters limiters) {
+        return limiters.synchronizedBucket.tryAcquire("10.0.0.1");
+    }
+
+    @Benchmark
+    public boolean synchronizedSpread(Limiters limiters) {
+        return limiters.synchronizedBucket.tryAcquire(limiters.randomKey());
+    }
+
+    /**
+     * Straightforward token bucket behind a global lock, kept as the baseline.
+     */
+    static class SynchronizedTokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private final Map<String, double[]> buckets = new HashMap<>();
+
+        SynchronizedTokenBucket(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.tokensPerNano = (double) capacity / period.toNanos();
+        }
+
+        synchronized boolean tryAcquire(String key) {
+            long now = System.nanoTime();
+            double[] bucket = buckets.computeIfAbsent(key, k -> new double[]{capacity, now});
+            bucket[0] = Math.min(capacity, bucket[0] + (now - bucket[1]) * tokensPerNano);
+            bucket[1] = now;
+            if (bucket[0] < 1) {
+                return false;
+            }
+            bucket[0] -= 1;
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.saas.chatbot.benchmark;
+
+import com.example.saas.chatbot.infrastructure.auth.security.InMemoryTokenBlacklist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lookup throughput of {@link InMemoryTokenBlacklist} against the previous implementation,
+ * which keyed a {@link ConcurrentHashMap} on the full JWT string, with 1M revoked tokens.
+ * {@link #main} also prints the retained heap of both structures at that size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TokenBlacklistBenchmark {
+
+    private static final int JWT_LENGTH = 240;
+
+    @State(Scope.Benchmark)
+    public static class LegacyState {
+
+        @Param("1000000")
+        int revoked;
+
+        LegacyTokenBlacklist blacklist;
+        String[] present;
+        String[] absent;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            blacklist = new LegacyTokenBlacklist();
+            present = new String[revoked];
+            for (int i = 0; i < revoked; i++) {
+                present[i] = fakeJwt();
+                blacklist.blacklist(present[i]);
+            }
+            absent = new String[1024];
+            for (int i = 0; i < absent.length; i++) {
+                absent[i] = fakeJwt();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExpiringState {
+
+        @Param("1000000")
+        int revoked;
+
+        InMemoryTokenBlacklist blacklist;
+        String[] present;
+        String[] absent;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            blacklist = new InMemoryTokenBlacklist(revoked);
+            Instant expiresAt = Instant.now().plusSeconds(3600);
+            present = new String[revoked];
+            for (int i = 0; i < revoked; i++) {
+                present[i] = UUID.randomUUID().toString();
+                blacklist.blacklist(present[i], expiresAt);
+            }
+            absent = new String[1024];
+            for (int i = 0; i < absent.length; i++) {
+                absent[i] = UUID.randomUUID().toString();
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean legacyMiss(LegacyState state) {
+        return state.blacklist.isBlacklisted(state.absent[ThreadLocalRandom.current().nextInt(state.absent.length)]);
+    }
+
+    @Benchmark
+    public boolean legacyHit(LegacyState state) {
+        return state.blacklist.isBlacklisted(state.present[ThreadLocalRandom.current().nextInt(state.present.length)]);
+    }
+
+    @Benchmark
+    public boolean expiringMiss(ExpiringState state) {
+        return state.blacklist.isBlacklisted(state.absent[ThreadLocalRandom.current().nextInt(state.absent.length)]);
+    }
+
+    @Benchmark
+    public boolean expiringHit(ExpiringState state) {
+        return state.blacklist.isBlacklisted(state.present[ThreadLocalRandom.current().nextInt(state.present.length)]);
+    }
+
+    /**
+     * Copy of the blacklist this benchmark replaced, kept as the baseline.
+     */
+    static class LegacyTokenBlacklist {
+
+        private final Map<String, Instant> blacklist = new ConcurrentHashMap<>();
+
+        void blacklist(String token) {
+            blacklist.put(token, Instant.now());
+        }
+
+        boolean isBlacklisted(String token) {
+            return blacklist.containsKey(token);
+        }
+    }
+
+    private static String fakeJwt() {
+        StringBuilder token = new StringBuilder(JWT_LENGTH);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < JWT_LENGTH; i++) {
+            token.append((char) ('a' + random.nextInt(26)));
+        }
+        return token.toString();
+    }
+
+    private static long retainedHeap(Runnable populate) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        populate.run();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed() - before;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int revoked = 1_000_000;
+        Object[] holder = new Object[1];
+
+        long legacy = retainedHeap(() -> {
+            LegacyTokenBlacklist blacklist = new LegacyTokenBlacklist();
+            for (int i = 0; i < revoked; i++) blacklist.blacklist(fakeJwt());
+            holder[0] = blacklist;
+        });
+        holder[0] = null;
+
+        long expiring = retainedHeap(() -> {
+            InMemoryTokenBlacklist blacklist = new InMemoryTokenBlacklist(revoked);
+            Instant expiresAt = Instant.now().plusSeconds(3600);
+            for (int i = 0; i < revoked; i++) blacklist.blacklist(UUID.randomUUID().toString(), expiresAt);
+            holder[0] = blacklist;
+        });
+        holder[0] = null;
+
+        System.out.printf("retained heap at %,d revoked tokens: legacy %,d bytes, expiring %,d bytes%n",
+                revoked, legacy, expiring);
+
+        new Runner(new OptionsBuilder()
+                .include(TokenBlacklistBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test client connects from 127.0.0.1, a trusted proxy by default, so each request stands for
+ * a client behind the load balancer identified only by its {@code X-Forwarded-For}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:forwarded;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=forwarded-test-secret-with-at-least-32-characters",
+        "jwt.expiration=60000",
+        "auth.password.bcrypt.strength=4",
+        "auth.audit.sink=none",
+        "auth.rate-limit.login.ip.capacity=3"
+})
+class ForwardedClientRateLimitTest {
+
+    @LocalServerPort
+    int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void clientsBehindTheSameProxyGetSeparateLoginBuckets() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("203.0.113.10")).isEqualTo(401);
+        }
+        assertThat(login("203.0.113.10")).isEqualTo(429);
+
+        assertThat(login("203.0.113.20")).isEqualTo(401);
+        // the rightmost entry came from the proxy; whatever the client sent to its left is ignored
+        assertThat(login("203.0.113.10, 203.0.113.30")).isEqualTo(401);
+    }
+
+    // a fresh email every time, so only the per-IP bucket can run out
+    private int login(String forwardedFor) throws Exception {
+        String body = "{\"email\":\"" + UUID.randomUUID() + "@example.com\",\"password\":\"wrong-password\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
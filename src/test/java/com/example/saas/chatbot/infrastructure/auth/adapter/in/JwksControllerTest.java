@@ -0,0 +1,87 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.infrastructure.auth.security.InMemorySigningKeyStore;
+import com.example.saas.chatbot.infrastructure.auth.security.SigningKeyRing;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksControllerTest {
+
+    private static final String SECRET = "jwks-test-secret-jwks-test-secret-jwks-test-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InMemorySigningKeyStore store = new InMemorySigningKeyStore();
+    // a zero rotation period publishes a new key on every rotateIfDue
+    private final SigningKeyRing ring = ring();
+    private final JwksController controller = controller(ring);
+
+    @Test
+    void publishesEveryKeyAsAP256Jwk() throws Exception {
+        ResponseEntity<byte[]> response = controller.jwks(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=300, public");
+        JsonNode keys = objectMapper.readTree(response.getBody()).get("keys");
+        assertThat(keys).hasSize(1);
+        JsonNode key = keys.get(0);
+        assertThat(key.get("kid").asText()).isEqualTo(ring.current().kid());
+        assertThat(key.get("kty").asText()).isEqualTo("EC");
+        assertThat(key.get("crv").asText()).isEqualTo("P-256");
+        assertThat(key.get("alg").asText()).isEqualTo("ES256");
+        // 32 bytes each, unpadded base64url
+        assertThat(key.get("x").asText()).hasSize(43);
+        assertThat(key.get("y").asText()).hasSize(43);
+    }
+
+    @Test
+    void etagIsTheSameOnEveryNodeUntilTheKeySetChanges() throws Exception {
+        String etag = controller.jwks(null).getHeaders().getETag();
+
+        assertThat(controller.jwks(null).getHeaders().getETag()).isEqualTo(etag);
+        assertThat(controller(ring()).jwks(null).getHeaders().getETag()).isEqualTo(etag);
+
+        String firstKid = ring.current().kid();
+        ring.rotateIfDue();
+        ResponseEntity<byte[]> rotated = controller.jwks(null);
+
+        assertThat(rotated.getHeaders().getETag()).isNotEqualTo(etag);
+        JsonNode keys = objectMapper.readTree(rotated.getBody()).get("keys");
+        assertThat(keys).hasSize(2);
+        // the pending key is published after the one still signing
+        assertThat(keys.get(0).get("kid").asText()).isEqualTo(firstKid);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnswered304() throws Exception {
+        String etag = controller.jwks(null).getHeaders().getETag();
+
+        for (String ifNoneMatch : new String[]{etag, "W/" + etag, "\"stale\", " + etag, "\"stale\",W/" + etag, "*"}) {
+            ResponseEntity<byte[]> response = controller.jwks(ifNoneMatch);
+            assertThat(response.getStatusCode()).as(ifNoneMatch).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+            assertThat(response.getBody()).isNull();
+        }
+
+        assertThat(controller.jwks("\"stale\"").getStatusCode()).isEqualTo(HttpStatus.OK);
+        ring.rotateIfDue();
+        assertThat(controller.jwks(etag).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private SigningKeyRing ring() {
+        return new SigningKeyRing(store, SECRET, Duration.ZERO, Duration.ofMinutes(10), Duration.ofDays(7));
+    }
+
+    private JwksController controller(SigningKeyRing ring) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("signingKeyRing", ring));
+        return new JwksController(beans.getBeanProvider(SigningKeyRing.class), objectMapper, Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.in;
+
+import com.example.saas.chatbot.domain.auth.model.UserImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csvRowsCarryTheirFileLineAndQuotedFields() throws Exception {
+        List<UserImportRow> rows = read(UserImportReader.csv(body("""
+                Email,Password,Role
+                first@example.com,"pass,word ""1""\",admin
+
+                second@example.com,password-2,
+                """)));
+
+        assertThat(rows).containsExactly(
+                new UserImportRow(2, "first@example.com", "pass,word \"1\"", null, "admin"),
+                new UserImportRow(4, "second@example.com", "password-2", null, null));
+    }
+
+    @Test
+    void csvMayCarryHashesInsteadOfPasswords() throws Exception {
+        List<UserImportRow> rows = read(UserImportReader.csv(body("""
+                email,passwordHash
+                hashed@example.com,{bcrypt}$2a$10$existing
+                """)));
+
+        assertThat(rows).containsExactly(
+                new UserImportRow(2, "hashed@example.com", null, "{bcrypt}$2a$10$existing", null));
+    }
+
+    @Test
+    void csvWithoutTheRequiredColumnsIsRejected() {
+        assertThatThrownBy(() -> UserImportReader.csv(body("email,role\nuser@example.com,admin\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void emptyCsvHasNoRows() throws Exception {
+        assertThat(read(UserImportReader.csv(body("")))).isEmpty();
+    }
+
+    @Test
+    void jsonObjectsAreNumberedInArrayOrder() throws Exception {
+        List<UserImportRow> rows = read(UserImportReader.json(body("""
+                [
+                  {"email": "first@example.com", "password": "password-1", "role": "ADMIN"},
+                  {"email": "second@example.com", "passwordHash": "{bcrypt}$2a$10$existing"}
+                ]
+                """), objectMapper));
+
+        assertThat(rows).containsExactly(
+                new UserImportRow(1, "first@example.com", "password-1", null, "ADMIN"),
+                new UserImportRow(2, "second@example.com", null, "{bcrypt}$2a$10$existing", null));
+    }
+
+    @Test
+    void jsonMustBeAnArray() {
+        assertThatThrownBy(() -> UserImportReader.json(body("{\"email\": \"user@example.com\"}"), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<UserImportRow> read(Iterator<UserImportRow> iterator) {
+        List<UserImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingUserRepositoryTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CountingUserRepository delegate = new CountingUserRepository();
+    private final CachingUserRepository cache = new CachingUserRepository(delegate, 100,
+            Duration.ofMinutes(5), Duration.ofSeconds(5), Duration.ofMinutes(1), new SimpleMeterRegistry(), clock::get);
+
+    @Test
+    void repeatedLookupsHitTheDelegateOnce() {
+        delegate.save(user("hash"));
+
+        cache.findByEmail(EMAIL);
+        cache.findByEmail(EMAIL);
+        cache.existsByEmail(EMAIL);
+
+        assertThat(delegate.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownEmailIsCachedUntilSaveInvalidatesIt() {
+        assertThat(cache.existsByEmail(EMAIL)).isFalse();
+        assertThat(cache.existsByEmail(EMAIL)).isFalse();
+        assertThat(delegate.loads.get()).isEqualTo(1);
+
+        cache.save(user("hash"));
+
+        assertThat(cache.existsByEmail(EMAIL)).isTrue();
+        assertThat(delegate.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void cachedPasswordHashExpiresAfterPasswordTtl() {
+        delegate.save(user("old"));
+        cache.findByEmail(EMAIL);
+        delegate.updatePassword(EMAIL, "new");
+
+        clock.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(cache.findByEmail(EMAIL)).get().extracting(User::getPassword).isEqualTo("old");
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.findByEmail(EMAIL)).get().extracting(User::getPassword).isEqualTo("new");
+    }
+
+    @Test
+    void updatePasswordInvalidatesTheEntry() {
+        delegate.save(user("old"));
+        cache.findByEmail(EMAIL);
+
+        cache.updatePassword(EMAIL, "new");
+
+        assertThat(cache.findByEmail(EMAIL)).get().extracting(User::getPassword).isEqualTo("new");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        delegate.save(user("hash"));
+        delegate.gate = new CountDownLatch(1);
+        List<Future<Optional<User>>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> cache.findByEmail(EMAIL)));
+            }
+            Thread.sleep(100);
+            delegate.gate.countDown();
+            for (Future<Optional<User>> result : results) {
+                assertThat(result.get()).isPresent();
+            }
+        }
+
+        assertThat(delegate.loads.get()).isEqualTo(1);
+    }
+
+    private static User user(String password) {
+        return User.builder().id(1L).email(EMAIL).password(password).role(Role.USER).build();
+    }
+
+    static class CountingUserRepository implements UserRepositoryPort {
+
+        private final Map<String, User> users = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile CountDownLatch gate;
+
+        @Override
+        public User save(User user) {
+            users.put(user.getEmail(), user);
+            return user;
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            loads.incrementAndGet();
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Optional.ofNullable(users.get(email));
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return findByEmail(email).isPresent();
+        }
+
+        @Override
+        public void updatePassword(String email, String encodedPassword) {
+            users.computeIfPresent(email, (key, user) ->
+                    User.builder().id(user.getId()).email(email).password(encodedPassword).role(user.getRole()).build());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.domain.auth.model.RefreshToken;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenRotation;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({RefreshTokenRepositoryAdapter.class, ReplicaReads.class})
+class RefreshTokenRepositoryAdapterTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    @Autowired
+    private RefreshTokenRepositoryAdapter adapter;
+
+    @Autowired
+    private UserJpaRepository users;
+
+    @Autowired
+    private CountingJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        users.save(UserEntity.builder().email(EMAIL).password("hash").role(Role.USER).build());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000})
+    void rotationTouchesOneRowHoweverLongTheHistory(int history) {
+        for (int i = 0; i < history; i++) {
+            adapter.save(new RefreshToken(null, "old." + i, EMAIL, "family-" + (i % 20),
+                    Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600), true));
+        }
+        RefreshToken current = adapter.save(new RefreshToken("current.token", EMAIL, Instant.now().plusSeconds(3600)));
+
+        int rowsBefore = countRows();
+        jdbcTemplate.updates.clear();
+        Optional<RefreshTokenRotation> rotation = adapter.rotate("current.token", (user, familyId) ->
+                new RefreshToken("next.token", user.getEmail(), familyId, Instant.now().plusSeconds(3600)));
+
+        // the row count each statement reported, not just which flags differ afterwards
+        assertThat(jdbcTemplate.updates)
+                .extracting(CountingJdbcTemplate.Update::statement, CountingJdbcTemplate.Update::rows)
+                .containsExactly(tuple("UPDATE", 1), tuple("INSERT", 1));
+        assertThat(countRows()).isEqualTo(rowsBefore + 1);
+        assertThat(rotation).isPresent();
+        assertThat(rotation.get().user().getEmail()).isEqualTo(EMAIL);
+        assertThat(rotation.get().successor().getFamilyId()).isEqualTo(current.getFamilyId());
+    }
+
+    @Test
+    void consumedTokenCannotBeRotatedAgain() {
+        adapter.save(new RefreshToken("current.token", EMAIL, Instant.now().plusSeconds(3600)));
+
+        assertThat(adapter.rotate("current.token", (user, familyId) ->
+                new RefreshToken("next.token", user.getEmail(), familyId, Instant.now().plusSeconds(3600)))).isPresent();
+        assertThat(adapter.rotate("current.token", (user, familyId) ->
+                new RefreshToken("other.token", user.getEmail(), familyId, Instant.now().plusSeconds(3600)))).isEmpty();
+    }
+
+    @Test
+    void revokingOneFamilyLeavesOtherSessionsActive() {
+        RefreshToken laptop = adapter.save(new RefreshToken("laptop.token", EMAIL, Instant.now().plusSeconds(3600)));
+        RefreshToken phone = adapter.save(new RefreshToken("phone.token", EMAIL, Instant.now().plusSeconds(3600)));
+
+        assertThat(adapter.revokeFamily(EMAIL, laptop.getFamilyId())).isTrue();
+
+        assertThat(adapter.findActiveByUserEmail(EMAIL))
+                .extracting(RefreshToken::getFamilyId)
+                .containsExactly(phone.getFamilyId());
+        assertThat(adapter.revokeFamily("someone@else.com", phone.getFamilyId())).isFalse();
+    }
+
+    @Test
+    void purgeDeletesExpiredAndLongRevokedRowsInBoundedBatches() {
+        for (int i = 0; i < 5; i++) {
+            adapter.save(new RefreshToken(null, "expired." + i, EMAIL, "family-expired",
+                    Instant.now().minusSeconds(7200), Instant.now().minusSeconds(60), false));
+        }
+        adapter.save(new RefreshToken("active.token", EMAIL, Instant.now().plusSeconds(3600)));
+        adapter.save(new RefreshToken("revoked.token", EMAIL, Instant.now().plusSeconds(3600)));
+        adapter.revokeAllByUserEmail(EMAIL);
+
+        Instant now = Instant.now();
+        assertThat(adapter.deleteExpiredTokens(now, now.minusSeconds(3600), 3)).isEqualTo(3);
+        assertThat(adapter.deleteExpiredTokens(now, now.minusSeconds(3600), 3)).isEqualTo(2);
+        assertThat(adapter.deleteExpiredTokens(now, now.minusSeconds(3600), 3)).isZero();
+        assertThat(countRows()).isEqualTo(2);
+
+        assertThat(adapter.deleteExpiredTokens(now, now.plusSeconds(1), 3)).isEqualTo(2);
+        assertThat(countRows()).isZero();
+    }
+
+    private Integer countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class);
+    }
+
+    /**
+     * Records the row count of every update the adapter issues through {@link JdbcTemplate}.
+     */
+    static class CountingJdbcTemplate extends JdbcTemplate {
+
+        final List<Update> updates = new CopyOnWriteArrayList<>();
+
+        CountingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            int rows = super.update(sql, args);
+            updates.add(new Update(sql.substring(0, sql.indexOf(' ')), rows));
+            return rows;
+        }
+
+        record Update(String statement, int rows) {
+        }
+    }
+
+    @TestConfiguration
+    static class CountingJdbcConfig {
+
+        @Bean
+        @Primary
+        CountingJdbcTemplate countingJdbcTemplate(DataSource dataSource) {
+            return new CountingJdbcTemplate(dataSource);
+        }
+    }
+}
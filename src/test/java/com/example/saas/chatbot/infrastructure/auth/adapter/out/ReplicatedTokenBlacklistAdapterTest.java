@@ -0,0 +1,75 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.infrastructure.auth.security.InMemoryTokenBlacklist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class ReplicatedTokenBlacklistAdapterTest {
+
+    @Autowired
+    private RevokedTokenJpaRepository repository;
+
+    private SimpleMeterRegistry nodeBMetrics;
+    private ReplicatedTokenBlacklistAdapter nodeA;
+    private ReplicatedTokenBlacklistAdapter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeBMetrics = new SimpleMeterRegistry();
+        nodeA = node(new SimpleMeterRegistry());
+        nodeB = node(nodeBMetrics);
+    }
+
+    @Test
+    void revocationOnOneNodeReachesTheOtherAfterPoll() {
+        nodeA.blacklist("jti-1", Instant.now().plusSeconds(900));
+
+        assertThat(nodeA.isBlacklisted("jti-1")).isTrue();
+        assertThat(nodeB.isBlacklisted("jti-1")).isFalse();
+
+        nodeB.poll();
+
+        assertThat(nodeB.isBlacklisted("jti-1")).isTrue();
+        assertThat(nodeB.isBlacklisted("jti-2")).isFalse();
+    }
+
+    @Test
+    void pollOnlyPicksUpRowsPastTheHighWaterMark() {
+        for (int i = 0; i < 25; i++) {
+            nodeA.blacklist("jti-" + i, Instant.now().plusSeconds(900));
+        }
+        nodeB.poll();
+
+        nodeA.blacklist("jti-late", Instant.now().plusSeconds(900));
+        nodeB.poll();
+
+        assertThat(nodeB.isBlacklisted("jti-0")).isTrue();
+        assertThat(nodeB.isBlacklisted("jti-24")).isTrue();
+        assertThat(nodeB.isBlacklisted("jti-late")).isTrue();
+    }
+
+    @Test
+    void replicationLagIsExposedAsMetric() {
+        assertThat(nodeBMetrics.get("jwt.blacklist.replication.lag").gauge().value())
+                .isGreaterThan(Duration.ofDays(1).toMillis());
+
+        nodeB.poll();
+
+        assertThat(nodeBMetrics.get("jwt.blacklist.replication.lag").gauge().value())
+                .isLessThan(Duration.ofSeconds(5).toMillis());
+    }
+
+    private ReplicatedTokenBlacklistAdapter node(SimpleMeterRegistry meterRegistry) {
+        return new ReplicatedTokenBlacklistAdapter(repository, new InMemoryTokenBlacklist(1024),
+                10, Duration.ofSeconds(10), meterRegistry);
+    }
+}
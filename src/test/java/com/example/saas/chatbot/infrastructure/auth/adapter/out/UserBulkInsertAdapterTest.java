@@ -0,0 +1,76 @@
+package com.example.saas.chatbot.infrastructure.auth.adapter.out;
+
+import com.example.saas.chatbot.domain.auth.exception.UserAlreadyExistsException;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaReads;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({UserBulkInsertAdapter.class, UserRepositoryAdapter.class, ReplicaReads.class})
+class UserBulkInsertAdapterTest {
+
+    @Autowired
+    private UserBulkInsertAdapter bulkAdapter;
+
+    @Autowired
+    private UserRepositoryAdapter userRepositoryAdapter;
+
+    @Autowired
+    private UserJpaRepository users;
+
+    @Test
+    void insertsNewEmailsAndSkipsRegisteredOnes() {
+        users.saveAndFlush(UserEntity.builder().email("taken@example.com").password("hash").role(Role.USER).build());
+
+        boolean[] inserted = bulkAdapter.insertIgnoringExisting(List.of(
+                user("a@example.com"), user("taken@example.com"), user("b@example.com")));
+
+        assertThat(inserted).containsExactly(true, false, true);
+        assertThat(users.count()).isEqualTo(3);
+    }
+
+    @Test
+    void bulkIdsDoNotCollideWithIdsHandedOutByHibernate() {
+        List<User> batch = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            batch.add(user("bulk" + i + "@example.com"));
+        }
+        bulkAdapter.insertIgnoringExisting(batch);
+
+        for (int i = 0; i < 60; i++) {
+            users.save(UserEntity.builder().email("jpa" + i + "@example.com").password("hash").role(Role.USER).build());
+        }
+        users.flush();
+
+        assertThat(users.count()).isEqualTo(180);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void registeringATakenEmailFailsOnTheInsertItself() {
+        try {
+            userRepositoryAdapter.save(user("dup@example.com"));
+
+            assertThatThrownBy(() -> userRepositoryAdapter.save(user("dup@example.com")))
+                    .isInstanceOf(UserAlreadyExistsException.class);
+        } finally {
+            users.deleteAll();
+        }
+    }
+
+    private static User user(String email) {
+        return User.builder().email(email).password("{bcrypt}hash").role(Role.USER).build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int EVENTS_PER_PRODUCER = 50_000;
+
+    @Test
+    void fullRingRejectsUntilDrained() {
+        AuditRingBuffer ring = new AuditRingBuffer(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i, AuthAuditType.LOGIN_SUCCEEDED, "user" + i)).isTrue();
+        }
+        assertThat(ring.offer(4, AuthAuditType.LOGIN_SUCCEEDED, "user4")).isFalse();
+        assertThat(ring.size()).isEqualTo(4);
+
+        List<AuditEntry> batch = new ArrayList<>();
+        assertThat(ring.drain(batch, 2)).isEqualTo(2);
+        assertThat(batch).extracting(AuditEntry::subject).containsExactly("user0", "user1");
+        assertThat(ring.offer(5, AuthAuditType.LOGGED_OUT, "user5")).isTrue();
+        assertThat(ring.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Timeout(30)
+    void concurrentProducersLoseNothingAndKeepTheirOrder() throws Exception {
+        AuditRingBuffer ring = new AuditRingBuffer(1024);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS)) {
+            for (int p = 0; p < PRODUCERS; p++) {
+                String subject = "producer-" + p;
+                producers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                        while (!ring.offer(i, AuthAuditType.REFRESHED, subject)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            Map<String, Long> lastSeen = new HashMap<>();
+            List<AuditEntry> batch = new ArrayList<>();
+            int received = 0;
+            while (received < PRODUCERS * EVENTS_PER_PRODUCER) {
+                received += ring.drain(batch, 256);
+                for (AuditEntry entry : batch) {
+                    long sequence = entry.occurredAt().toEpochMilli();
+                    Long previous = lastSeen.put(entry.subject(), sequence);
+                    assertThat(sequence).isEqualTo(previous == null ? 0 : previous + 1);
+                }
+                batch.clear();
+            }
+
+            assertThat(lastSeen).hasSize(PRODUCERS).allSatisfy((subject, last) ->
+                    assertThat(last).isEqualTo(EVENTS_PER_PRODUCER - 1L));
+        }
+        assertThat(ring.size()).isZero();
+    }
+}
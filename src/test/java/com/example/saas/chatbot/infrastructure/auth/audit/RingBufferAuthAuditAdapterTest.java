@@ -0,0 +1,146 @@
+package com.example.saas.chatbot.infrastructure.auth.audit;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAuthAuditAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void stopDrainsEveryEventIntoTheLog() throws IOException {
+        RingBufferAuthAuditAdapter audit = adapter(new FileAuditSink(directory, 1 << 20,
+                FileAuditSink.FsyncPolicy.BATCH, Duration.ofSeconds(1)), 1024, RingBufferAuthAuditAdapter.OverflowPolicy.DROP);
+        audit.start();
+
+        for (int i = 0; i < 500; i++) {
+            audit.record(AuthAuditType.LOGIN_SUCCEEDED, "user" + i + "@example.com");
+        }
+        audit.record(AuthAuditType.REFRESH_FAILED, null);
+        audit.record(AuthAuditType.LOGIN_FAILED, "evil\nLOGGED_OUT\tadmin@example.com");
+        audit.stop();
+
+        List<String> lines = Files.readAllLines(directory.resolve(FileAuditSink.ACTIVE_FILE));
+        assertThat(lines).hasSize(502);
+        assertThat(lines.get(0)).endsWith("\tLOGIN_SUCCEEDED\tuser0@example.com");
+        assertThat(lines.get(500)).endsWith("\tREFRESH_FAILED\t-");
+        assertThat(lines.get(501)).endsWith("\tLOGIN_FAILED\tevil LOGGED_OUT admin@example.com");
+        assertThat(meterRegistry.get("auth.audit.written").counter().count()).isEqualTo(502);
+        assertThat(meterRegistry.get("auth.audit.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    void logRollsOnceItReachesTheMaximumSize() throws IOException {
+        RingBufferAuthAuditAdapter audit = adapter(new FileAuditSink(directory, 1024,
+                FileAuditSink.FsyncPolicy.NEVER, Duration.ofSeconds(1)), 1024, RingBufferAuthAuditAdapter.OverflowPolicy.DROP);
+        audit.start();
+        for (int i = 0; i < 200; i++) {
+            audit.record(AuthAuditType.REFRESHED, "user" + i + "@example.com");
+        }
+        audit.stop();
+
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                assertThat(Files.size(file)).isLessThan(1024 + 256 * 64);
+                lines.addAll(Files.readAllLines(file));
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+        assertThat(lines).hasSize(200);
+    }
+
+    @Test
+    void fullRingDropsAndCountsInsteadOfWaiting() throws Exception {
+        BlockedSink sink = new BlockedSink();
+        RingBufferAuthAuditAdapter audit = adapter(sink, 4, RingBufferAuthAuditAdapter.OverflowPolicy.DROP);
+        audit.start();
+
+        // the writer takes the first event and holds it in the blocked sink, the ring keeps four
+        audit.record(AuthAuditType.LOGIN_SUCCEEDED, "first@example.com");
+        sink.writing.await();
+        for (int i = 0; i < 10; i++) {
+            audit.record(AuthAuditType.LOGIN_FAILED, "user" + i + "@example.com");
+        }
+
+        assertThat(meterRegistry.get("auth.audit.dropped").counter().count()).isEqualTo(6);
+        assertThat(meterRegistry.get("auth.audit.lag").gauge().value()).isEqualTo(4);
+
+        sink.release.countDown();
+        audit.stop();
+        assertThat(sink.written).hasSize(5);
+    }
+
+    @Test
+    void blockingPolicyWaitsForTheWriterToFreeASlot() throws Exception {
+        BlockedSink sink = new BlockedSink();
+        RingBufferAuthAuditAdapter audit = adapter(sink, 4, RingBufferAuthAuditAdapter.OverflowPolicy.BLOCK);
+        audit.start();
+
+        audit.record(AuthAuditType.LOGIN_SUCCEEDED, "first@example.com");
+        sink.writing.await();
+        for (int i = 0; i < 4; i++) {
+            audit.record(AuthAuditType.LOGIN_FAILED, "user" + i + "@example.com");
+        }
+        Thread.ofPlatform().start(() -> {
+            sleep(Duration.ofMillis(200));
+            sink.release.countDown();
+        });
+        audit.record(AuthAuditType.LOGGED_OUT, "last@example.com");
+        audit.stop();
+
+        assertThat(meterRegistry.get("auth.audit.dropped").counter().count()).isZero();
+        assertThat(sink.written).extracting(AuditEntry::subject).endsWith("last@example.com").hasSize(6);
+    }
+
+    private RingBufferAuthAuditAdapter adapter(AuditSink sink, int capacity,
+                                               RingBufferAuthAuditAdapter.OverflowPolicy overflow) {
+        return new RingBufferAuthAuditAdapter(sink, capacity, 64, overflow, Duration.ofSeconds(5),
+                Duration.ofMillis(1), meterRegistry);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // blocks the writer inside its first batch until released
+    static class BlockedSink implements AuditSink {
+
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<AuditEntry> written = new ArrayList<>();
+
+        @Override
+        public void write(List<AuditEntry> batch) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        }
+    }
+}
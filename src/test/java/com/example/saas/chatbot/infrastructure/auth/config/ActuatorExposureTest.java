@@ -0,0 +1,59 @@
+package com.example.saas.chatbot.infrastructure.auth.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test client connects from loopback, which is left out of the scrape allowlist here so it
+ * stands for an anonymous client that reached the management port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:actuator;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=actuator-test-secret-with-at-least-32-characters",
+        "jwt.expiration=60000",
+        "auth.audit.sink=none",
+        "actuator.scrape.allowed-addresses=10.0.0.0/8"
+})
+class ActuatorExposureTest {
+
+    @LocalServerPort
+    int port;
+
+    @LocalManagementPort
+    int managementPort;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void actuatorIsNotServedOnTheApplicationPort() throws Exception {
+        assertThat(managementPort).isNotEqualTo(port);
+        assertThat(get(port, "/actuator/prometheus")).isNotEqualTo(200);
+        assertThat(get(port, "/actuator/health")).isNotEqualTo(200);
+    }
+
+    @Test
+    void onlyHealthIsOpenToAnonymousClients() throws Exception {
+        assertThat(get(managementPort, "/actuator/health")).isEqualTo(200);
+        assertThat(get(managementPort, "/actuator/prometheus")).isEqualTo(403);
+        assertThat(get(managementPort, "/actuator/metrics")).isEqualTo(403);
+    }
+
+    private int get(int port, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.saas.chatbot.infrastructure.auth.metrics;
+
+import com.example.saas.chatbot.domain.auth.exception.InvalidCredentialsException;
+import com.example.saas.chatbot.domain.auth.model.AuthToken;
+import com.example.saas.chatbot.domain.auth.model.Session;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.in.AuthUseCase;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeteredAuthUseCaseTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsSuccessAndFailureSeparately() {
+        AuthUseCase metered = new MeteredAuthUseCase(new RejectingAuthUseCase(), registry);
+
+        metered.listSessions("user@example.com");
+        assertThatThrownBy(() -> metered.login("user@example.com", "wrong"))
+                .isInstanceOf(InvalidCredentialsException.class);
+
+        assertThat(timer("listSessions", "success", "none").count()).isEqualTo(1);
+        assertThat(timer("login", "error", "InvalidCredentialsException").count()).isEqualTo(1);
+        assertThat(timer("login", "success", "none").count()).isZero();
+    }
+
+    private Timer timer(String method, String outcome, String exception) {
+        return registry.get("auth.usecase")
+                .tags("method", method, "outcome", outcome, "exception", exception)
+                .timer();
+    }
+
+    private static final class RejectingAuthUseCase implements AuthUseCase {
+
+        @Override
+        public AuthToken login(String email, String password) {
+            throw new InvalidCredentialsException();
+        }
+
+        @Override
+        public User register(String email, String password) {
+            return null;
+        }
+
+        @Override
+        public void logout(String accessToken, String refreshToken) {
+        }
+
+        @Override
+        public AuthToken refresh(String refreshToken) {
+            return null;
+        }
+
+        @Override
+        public List<Session> listSessions(String email) {
+            return List.of();
+        }
+
+        @Override
+        public void revokeSession(String email, String sessionId) {
+        }
+
+        @Override
+        public void revokeAllSessions(String email) {
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
+import com.example.saas.chatbot.application.shared.exception.GlobalExceptionHandler;
+import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
+import com.example.saas.chatbot.domain.shared.exception.RateLimitExceededException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * One worker and one queue slot, so two calls in flight saturate the encoder.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GatedEncoder delegate = new GatedEncoder();
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final GlobalExceptionHandler exceptionHandler =
+            new GlobalExceptionHandler(meterRegistry, new ResponseBodies(new ObjectMapper()));
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+    @Test
+    void saturatedQueueIsRejectedAs429WithRetryAfter() throws Exception {
+        Future<String> hashing = callers.submit(() -> encoder.encode("first"));
+        delegate.started.await();
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        awaitQueued(1);
+
+        Throwable rejected = catchThrowable(() -> encoder.encode("third"));
+
+        assertThat(rejected).isInstanceOf(RateLimitExceededException.class);
+        ResponseEntity<byte[]> response = exceptionHandler.handleRateLimitExceeded((RateLimitExceededException) rejected);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        delegate.release.countDown();
+        assertThat(hashing.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:second");
+    }
+
+    @Test
+    void failedHashingFreesItsWorker() throws Exception {
+        delegate.release.countDown();
+
+        assertThatThrownBy(() -> encoder.encode("fail")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> encoder.matches("fail", "hash:fail")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(encoder.encode("after")).isEqualTo("hash:after");
+        assertThat(encoder.matches("after", "hash:after")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    void interruptedCallerGivesItsQueueSlotBack() throws Exception {
+        Future<String> hashing = callers.submit(() -> encoder.encode("first"));
+        delegate.started.await();
+        Future<String> abandoned = callers.submit(() -> encoder.encode("abandoned"));
+        awaitQueued(1);
+
+        abandoned.cancel(true);
+        awaitQueued(0);
+
+        Future<String> next = callers.submit(() -> encoder.encode("next"));
+        awaitQueued(1);
+        delegate.release.countDown();
+
+        assertThat(hashing.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("hash:next");
+        assertThat(delegate.encoded).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isZero();
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hashing.queue").gauge().value() != tasks) {
+            assertThat(System.nanoTime()).as("queue never held %d tasks", tasks).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Blocks every hash until {@code release} opens; "fail" then throws instead of hashing.
+     */
+    static class GatedEncoder implements PasswordEncoderPort {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile int encoded;
+
+        @Override
+        public String encode(String rawPassword) {
+            await(rawPassword);
+            encoded++;
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            await(rawPassword);
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        @Override
+        public boolean needsRehash(String encodedPassword) {
+            return false;
+        }
+
+        private void await(String rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (rawPassword.equals("fail")) {
+                throw new IllegalArgumentException("Cannot hash this password");
+            }
+        }
+    }
+}
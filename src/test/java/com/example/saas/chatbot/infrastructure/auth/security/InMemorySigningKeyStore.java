@@ -0,0 +1,40 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link SigningKeyStore} for tests; two rings built on one instance behave like two nodes.
+ */
+public class InMemorySigningKeyStore implements SigningKeyStore {
+
+    private final Map<String, StoredKey> keys = new ConcurrentHashMap<>();
+
+    @Override
+    public List<StoredKey> findAll() {
+        return new ArrayList<>(keys.values());
+    }
+
+    @Override
+    public void save(StoredKey key) {
+        keys.put(key.kid(), key);
+    }
+
+    @Override
+    public void retireActivatedBefore(Instant activatedBefore, Instant now) {
+        keys.replaceAll((kid, key) -> key.retiredAt() == null && key.activatesAt().isBefore(activatedBefore)
+                ? new StoredKey(kid, key.algorithm(), key.publicKey(), key.encryptedPrivateKey(),
+                        key.createdAt(), key.activatesAt(), now)
+                : key);
+    }
+
+    @Override
+    public int deleteRetiredBefore(Instant retiredBefore) {
+        int before = keys.size();
+        keys.values().removeIf(key -> key.retiredAt() != null && key.retiredAt().isBefore(retiredBefore));
+        return before - keys.size();
+    }
+}
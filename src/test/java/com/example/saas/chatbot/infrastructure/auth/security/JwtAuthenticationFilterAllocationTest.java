@@ -0,0 +1,81 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.application.shared.dto.ResponseBodies;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
+import com.example.saas.chatbot.support.AuthFakes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.saas.chatbot.support.Allocations.bytesPerCall;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterAllocationTest {
+
+    private final TokenVerification verification =
+            TokenVerification.valid("user@example.com", Role.ADMIN, "jti-1", Instant.now().plus(Duration.ofHours(1)));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticationCarriesTheClaimsAndSharedAuthorities() {
+        Authentication first = JwtAuthenticationFilter.authenticate(verification);
+        Authentication second = JwtAuthenticationFilter.authenticate(verification);
+
+        assertThat(first.getName()).isEqualTo("user@example.com");
+        assertThat(first.getPrincipal()).isEqualTo(new AuthenticatedUser("user@example.com", Role.ADMIN, "jti-1"));
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+    }
+
+    @Test
+    void buildingTheAuthenticationAllocatesOnlyThePrincipalAndToken() {
+        long claimsBased = bytesPerCall(() -> JwtAuthenticationFilter.authenticate(verification));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        long legacy = bytesPerCall(() -> {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    verification.subject(), null, List.of(new SimpleGrantedAuthority("ROLE_" + verification.role())));
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            return authentication;
+        });
+
+        assertThat(claimsBased).isLessThanOrEqualTo(64);
+        assertThat(claimsBased).isLessThan(legacy);
+    }
+
+    @Test
+    void authenticatedRequestStaysUnderOneKilobyte() {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(new AuthFakes.FixedTokenProvider(verification),
+                new AuthFakes.NoopBlacklist(), null, null, new ResponseBodies(new ObjectMapper()), new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/sessions");
+        request.addHeader("Authorization", "Bearer " + "x".repeat(200));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> { };
+
+        long perRequest = bytesPerCall(() -> {
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        });
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isInstanceOf(ClaimsAuthentication.class);
+        assertThat(perRequest).isLessThan(1024);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void allowsTheBurstThenRejectsWithTheWaitForTheNextToken() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        advance(Duration.ofSeconds(2));
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void keysAreIndependent() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void evictsOnlyBucketsThatRefilledCompletely() {
+        limiter.tryAcquire("10.0.0.1");
+        advance(Duration.ofSeconds(1));
+        limiter.tryAcquire("10.0.0.2");
+
+        advance(Duration.ofSeconds(1));
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.saas.chatbot.infrastructure.auth.security;
+
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenFormat;
+import com.example.saas.chatbot.domain.auth.model.Role;
+import com.example.saas.chatbot.domain.auth.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SigningKeyRingTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret";
+    private static final User USER = User.builder().id(1L).email("user@example.com").role(Role.USER).build();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InMemorySigningKeyStore store = new InMemorySigningKeyStore();
+    private final SigningKeyRing ring = new SigningKeyRing(store, SECRET, Duration.ofDays(30),
+            Duration.ofMinutes(10), Duration.ofDays(7), clock);
+    private final JwtService jwtService = new JwtService(SECRET, 900_000, 604_800_000, RefreshTokenFormat.JWT, ring, null);
+
+    @Test
+    void signsWithTheCurrentKidAndRejectsHmacTokensWithoutACutoff() {
+        String token = jwtService.generateAccessToken(USER);
+
+        assertThat(header(token)).contains("\"kid\":\"" + ring.current().kid() + "\"").contains("ES256");
+        assertThat(jwtService.verify(token).isValid()).isTrue();
+        assertThat(jwtService.verify(legacyToken()).isValid()).isFalse();
+    }
+
+    @Test
+    void acceptsHmacTokensOnlyUntilTheCutoff() {
+        JwtService beforeCutoff = new JwtService(SECRET, 900_000, 604_800_000, RefreshTokenFormat.JWT, ring,
+                Instant.now().plus(Duration.ofDays(7)));
+        JwtService afterCutoff = new JwtService(SECRET, 900_000, 604_800_000, RefreshTokenFormat.JWT, ring,
+                Instant.now().minusSeconds(1));
+        String legacy = legacyToken();
+
+        assertThat(beforeCutoff.verify(legacy).isValid()).isTrue();
+        assertThat(afterCutoff.verify(legacy).isValid()).isFalse();
+        assertThat(afterCutoff.verify(afterCutoff.generateAccessToken(USER)).isValid()).isTrue();
+    }
+
+    @Test
+    void rotationPublishesFirstThenSwitchesAndKeepsTheOldKeyUntilRetention() {
+        String firstKid = ring.current().kid();
+        String signedByFirst = jwtService.generateAccessToken(USER);
+
+        clock.advance(Duration.ofDays(30));
+        ring.rotateIfDue();
+
+        assertThat(ring.publicKeys()).hasSize(2);
+        assertThat(ring.current().kid()).isEqualTo(firstKid);
+
+        clock.advance(Duration.ofMinutes(10));
+        ring.rotateIfDue();
+
+        assertThat(ring.current().kid()).isNotEqualTo(firstKid);
+        assertThat(jwtService.verify(signedByFirst).isValid()).isTrue();
+
+        clock.advance(Duration.ofDays(7).plusMinutes(1));
+        ring.rotateIfDue();
+
+        assertThat(ring.publicKeys()).doesNotContainKey(firstKid);
+        assertThat(jwtService.verify(signedByFirst).isValid()).isFalse();
+    }
+
+    @Test
+    void anotherNodeSeesTheSameKeysThroughTheStore() {
+        SigningKeyRing otherNode = new SigningKeyRing(store, SECRET, Duration.ofDays(30),
+                Duration.ofMinutes(10), Duration.ofDays(7), clock);
+
+        assertThat(otherNode.current().kid()).isEqualTo(ring.current().kid());
+        assertThat(store.findAll()).hasSize(1);
+    }
+
+    @Test
+    void concurrentUnknownKidsShareOneReload() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        SigningKeyStore countingStore = new InMemorySigningKeyStore() {
+            @Override
+            public List<StoredKey> findAll() {
+                reads.incrementAndGet();
+                return super.findAll();
+            }
+        };
+        SigningKeyRing countingRing = new SigningKeyRing(countingStore, SECRET, Duration.ofDays(30),
+                Duration.ofMinutes(10), Duration.ofDays(7), clock);
+        clock.advance(Duration.ofMinutes(1));
+        int before = reads.get();
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService pool = Executors.newFixedThreadPool(16)) {
+            List<Future<?>> lookups = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                String kid = "forged-" + i;
+                lookups.add(pool.submit(() -> {
+                    start.await();
+                    return countingRing.publicKey(kid);
+                }));
+            }
+            start.countDown();
+            for (Future<?> lookup : lookups) {
+                assertThat(lookup.get()).isNull();
+            }
+        }
+
+        assertThat(reads.get() - before).isEqualTo(1);
+    }
+
+    private static String legacyToken() {
+        return new JwtService(SECRET, 900_000, 604_800_000, RefreshTokenFormat.JWT).generateAccessToken(USER);
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+
+    static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.in;
+
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.port.out.LlmProviderPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams an endless reply to a client that sends its request and never reads the response. The
+ * provider must stall once the socket buffers are full, and the stream timeout must then stop it
+ * and end the stream as abandoned rather than as a server error.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:slow-client;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=slow-client-test-secret-with-at-least-32-characters",
+        "jwt.expiration=60000",
+        "auth.password.bcrypt.strength=4",
+        "auth.audit.sink=none",
+        "chat.llm.provider=flooding",
+        "chat.stream.timeout=3s",
+        // bounds a write blocked on the stalled socket, should the interrupt not release it
+        "server.tomcat.connection-timeout=3s"
+})
+class ChatSlowClientTest {
+
+    // far more than the socket buffers on both ends hold
+    private static final int TOKEN_CHARS = 16 * 1024;
+    private static final long MAX_BUFFERED_TOKENS = 1024;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    private FloodingProvider provider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void clientThatStopsReadingStallsTheProviderUntilTheStreamTimesOut() throws Exception {
+        String accessToken = signIn();
+        String conversationId = startConversation(accessToken);
+
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4096);
+            socket.connect(new InetSocketAddress("127.0.0.1", port));
+            sendWithoutReading(socket, accessToken, conversationId);
+
+            waitUntil(() -> provider.tokens.get() > 0, Duration.ofSeconds(2));
+            long stalledAt = waitUntilStalled();
+            assertThat(stalledAt).isLessThan(MAX_BUFFERED_TOKENS);
+
+            waitUntil(() -> provider.finished, Duration.ofSeconds(15));
+            waitUntil(() -> streams("aborted") == 1, Duration.ofSeconds(5));
+        }
+
+        assertThat(streams("failed")).isZero();
+        assertThat(meterRegistry.find("api.errors").tag("type", "server/internal-error").counter()).isNull();
+        assertThat(meterRegistry.get("chat.streams.active").gauge().value()).isZero();
+        // the abandoned reply is not stored
+        HttpResponse<String> history = client.send(authenticated(accessToken, "/api/chat/" + conversationId + "/messages")
+                .GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(objectMapper.readTree(history.body())).hasSize(1);
+    }
+
+    private void sendWithoutReading(Socket socket, String accessToken, String conversationId) throws Exception {
+        byte[] body = "{\"content\":\"flood me\"}".getBytes(StandardCharsets.UTF_8);
+        String head = "POST /api/chat/" + conversationId + "/messages HTTP/1.1\r\n"
+                + "Host: 127.0.0.1:" + port + "\r\n"
+                + "Cookie: access_token=" + accessToken + "\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Accept: text/event-stream\r\n"
+                + "Content-Length: " + body.length + "\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.write(body);
+        out.flush();
+    }
+
+    // generation is stalled once no token was delivered for half a second
+    private long waitUntilStalled() throws InterruptedException {
+        long previous = -1;
+        long current = provider.tokens.get();
+        while (current != previous) {
+            Thread.sleep(500);
+            previous = current;
+            current = provider.tokens.get();
+        }
+        return current;
+    }
+
+    private double streams(String outcome) {
+        return meterRegistry.get("chat.streams").tag("outcome", outcome).counter().count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("waited %s", timeout).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private String signIn() throws Exception {
+        String credentials = "{\"email\":\"slow-" + UUID.randomUUID() + "@example.com\",\"password\":\"chat-test-password\"}";
+        client.send(json("/api/auth/register", credentials).build(), HttpResponse.BodyHandlers.discarding());
+        HttpResponse<Void> login = client.send(json("/api/auth/login", credentials).build(),
+                HttpResponse.BodyHandlers.discarding());
+        for (String header : login.headers().allValues("Set-Cookie")) {
+            if (header.startsWith("access_token=")) {
+                return header.substring("access_token=".length(), header.indexOf(';'));
+            }
+        }
+        throw new AssertionError("no access token cookie");
+    }
+
+    private String startConversation(String accessToken) throws Exception {
+        HttpResponse<String> response = client.send(authenticated(accessToken, "/api/chat")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"slow client\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body()).get("id").asText();
+    }
+
+    private HttpRequest.Builder authenticated(String accessToken, String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .header("Cookie", "access_token=" + accessToken);
+    }
+
+    private HttpRequest.Builder json(String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    /**
+     * Generates large tokens for as long as they are accepted, counting each one delivered.
+     */
+    static final class FloodingProvider implements LlmProviderPort {
+
+        final AtomicLong tokens = new AtomicLong();
+        volatile boolean finished;
+
+        @Override
+        public void streamReply(List<ChatMessage> conversation, Consumer<String> onToken) {
+            String token = "x".repeat(TOKEN_CHARS);
+            try {
+                // as a real model would, so the emitter is handed to Spring MVC before the first token
+                Thread.sleep(200);
+                while (!Thread.currentThread().isInterrupted()) {
+                    onToken.accept(token);
+                    tokens.incrementAndGet();
+                }
+                throw new IllegalStateException("Interrupted while generating a reply");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while generating a reply", e);
+            } finally {
+                finished = true;
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class FloodingProviderConfig {
+
+        @Bean
+        FloodingProvider floodingProvider() {
+            return new FloodingProvider();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.in;
+
+import com.example.saas.chatbot.infrastructure.chat.adapter.out.StubLlmProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams replies from the stub provider over real HTTP. The tests tagged {@code load} assert on
+ * what a client sees over the wall clock, time to first token, tokens per second and concurrent
+ * streams, and write it to {@code target/load/chat-stream-*-report.json}; run them with
+ * {@code ./mvnw -Pload test}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=chat-test-secret-with-at-least-32-characters",
+        "jwt.expiration=60000",
+        "auth.password.bcrypt.strength=4",
+        "auth.audit.sink=none",
+        "chat.llm.stub.first-token-delay=200ms",
+        "chat.llm.stub.token-delay=20ms",
+        // far fewer request threads than concurrent streams
+        "server.tomcat.threads.max=4",
+        "server.tomcat.threads.min-spare=4"
+})
+class ChatStreamingTest {
+
+    private static final String MESSAGE = "streaming replies one token at a time over server sent events";
+    private static final Duration FIRST_TOKEN_DELAY = Duration.ofMillis(200);
+    private static final int CONCURRENT_STREAMS = 16;
+
+    @LocalServerPort
+    int port;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient client;
+    private String accessToken;
+
+    @BeforeEach
+    void signIn() throws Exception {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String credentials = "{\"email\":\"chat-" + UUID.randomUUID() + "@example.com\",\"password\":\"chat-test-password\"}";
+        send(json("/api/auth/register", credentials).build());
+        HttpResponse<String> login = send(json("/api/auth/login", credentials).build());
+        for (String header : login.headers().allValues("Set-Cookie")) {
+            if (header.startsWith("access_token=")) {
+                accessToken = header.substring("access_token=".length(), header.indexOf(';'));
+            }
+        }
+    }
+
+    @Test
+    void replyArrivesTokenByToken() throws Exception {
+        String conversationId = startConversation();
+
+        StreamedReply reply = streamReply(conversationId);
+
+        List<String> expected = StubLlmProvider.tokensFor(MESSAGE);
+        assertThat(reply.tokens).containsExactlyElementsOf(expected);
+        assertThat(reply.done.get("tokens").asInt()).isEqualTo(expected.size());
+        assertThat(reply.done.get("sequence").asLong()).isEqualTo(2);
+
+        JsonNode history = objectMapper.readTree(send(authenticated("/api/chat/" + conversationId + "/messages")
+                .GET().build()).body());
+        assertThat(history).hasSize(2);
+        assertThat(history.get(1).get("role").asText()).isEqualTo("ASSISTANT");
+        assertThat(history.get(1).get("content").asText()).isEqualTo(String.join("", expected));
+    }
+
+    @Test
+    @Tag("load")
+    void tokensReachTheClientAsTheyAreGenerated() throws Exception {
+        StreamedReply reply = streamReply(startConversation());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tokens", reply.tokens.size());
+        report.put("timeToFirstTokenMillis", reply.timeToFirstToken().toMillis());
+        report.put("tokensPerSecond", reply.tokensPerSecond());
+        writeReport("single", report);
+
+        assertThat(reply.timeToFirstToken()).isGreaterThanOrEqualTo(FIRST_TOKEN_DELAY)
+                .isLessThan(FIRST_TOKEN_DELAY.plusSeconds(1));
+        // 20 ms per token is 50 tokens/s at best; spread out tokens would show as far less
+        assertThat(reply.tokensPerSecond()).isBetween(10.0, 60.0);
+    }
+
+    @Test
+    @Tag("load")
+    void openStreamsDoNotHoldRequestThreads() throws Exception {
+        long started = System.nanoTime();
+        List<Future<StreamedReply>> streams = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_STREAMS; i++) {
+                streams.add(clients.submit(() -> streamReply(startConversation())));
+            }
+            for (Future<StreamedReply> stream : streams) {
+                assertThat(stream.get().done).isNotNull();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // with a request thread held per stream, 16 streams on 4 threads would run in four waves
+        Duration oneStream = FIRST_TOKEN_DELAY.plusMillis(20L * StubLlmProvider.tokensFor(MESSAGE).size());
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("streams", CONCURRENT_STREAMS);
+        report.put("elapsedMillis", elapsed.toMillis());
+        report.put("oneStreamMillis", oneStream.toMillis());
+        writeReport("concurrent", report);
+
+        assertThat(elapsed).isLessThan(oneStream.multipliedBy(CONCURRENT_STREAMS / 4 - 1));
+    }
+
+    @Test
+    void unknownConversationIsRejectedBeforeStreaming() throws Exception {
+        HttpResponse<String> response = send(authenticated("/api/chat/" + UUID.randomUUID() + "/messages")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"hello\"}"))
+                .build());
+
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(objectMapper.readTree(response.body()).get("type").asText()).isEqualTo("chat/conversation-not-found");
+    }
+
+    private String startConversation() throws Exception {
+        HttpResponse<String> response = send(authenticated("/api/chat")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"streaming\"}"))
+                .build());
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body()).get("id").asText();
+    }
+
+    private StreamedReply streamReply(String conversationId) throws Exception {
+        HttpRequest request = authenticated("/api/chat/" + conversationId + "/messages")
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        new ChatRequest.SendMessage(MESSAGE))))
+                .build();
+
+        StreamedReply reply = new StreamedReply(System.nanoTime());
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        try (Stream<String> lines = response.body()) {
+            String event = null;
+            for (Iterator<String> it = lines.iterator(); it.hasNext(); ) {
+                String line = it.next();
+                if (line.startsWith("event:")) {
+                    event = line.substring("event:".length());
+                } else if (line.startsWith("data:")) {
+                    reply.accept(event, objectMapper.readTree(line.substring("data:".length())));
+                }
+            }
+        }
+        return reply;
+    }
+
+    private static void writeReport(String name, Map<String, Object> report) throws Exception {
+        Path file = Path.of("target", "load", "chat-stream-" + name + "-report.json");
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder authenticated(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Cookie", "access_token=" + accessToken);
+    }
+
+    private HttpRequest.Builder json(String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static final class StreamedReply {
+
+        private final long sent;
+        private final List<String> tokens = new ArrayList<>();
+        private long firstToken;
+        private long lastToken;
+        private JsonNode done;
+
+        StreamedReply(long sent) {
+            this.sent = sent;
+        }
+
+        void accept(String event, JsonNode data) {
+            if ("token".equals(event)) {
+                lastToken = System.nanoTime();
+                if (tokens.isEmpty()) {
+                    firstToken = lastToken;
+                }
+                tokens.add(data.get("text").asText());
+            } else if ("done".equals(event)) {
+                done = data;
+            }
+        }
+
+        Duration timeToFirstToken() {
+            return Duration.ofNanos(firstToken - sent);
+        }
+
+        // measured between tokens, so it reflects generation rather than the first token's wait
+        double tokensPerSecond() {
+            return (tokens.size() - 1) * 1_000_000_000.0 / (lastToken - firstToken);
+        }
+    }
+}
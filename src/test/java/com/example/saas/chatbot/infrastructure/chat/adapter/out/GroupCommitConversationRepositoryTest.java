@@ -0,0 +1,229 @@
+package com.example.saas.chatbot.infrastructure.chat.adapter.out;
+
+import com.example.saas.chatbot.domain.chat.exception.ConversationNotFoundException;
+import com.example.saas.chatbot.domain.chat.model.ChatMessage;
+import com.example.saas.chatbot.domain.chat.model.Conversation;
+import com.example.saas.chatbot.domain.chat.model.MessageRole;
+import com.example.saas.chatbot.domain.chat.port.out.ConversationRepositoryPort;
+import com.example.saas.chatbot.infrastructure.shared.jdbc.ReplicaReads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * The writer commits on its own thread, so these tests run outside a test transaction and clean
+ * up after themselves.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({ConversationRepositoryAdapter.class, ReplicaReads.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GroupCommitConversationRepositoryTest {
+
+    private static final int WRITERS = 32;
+
+    @Autowired
+    private ConversationRepositoryAdapter adapter;
+
+    @Autowired
+    private ConversationJpaRepository conversations;
+
+    @Autowired
+    private ChatMessageJpaRepository messages;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GroupCommitConversationRepository repository;
+
+    @BeforeEach
+    void startWriter() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new GroupCommitConversationRepository(adapter, jdbcTemplate,
+                new TransactionTemplate(transactionManager), 4096, WRITERS, Duration.ofMillis(20), meterRegistry);
+        repository.start();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.stop();
+        messages.deleteAll();
+        conversations.deleteAll();
+    }
+
+    @Test
+    void numbersEachConversationsMessagesInTheOrderTheyWereQueued() {
+        String first = start();
+        String second = start();
+        List<CompletableFuture<ChatMessage>> pending = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            pending.add(repository.appendMessage(first, MessageRole.USER, "first " + i));
+            pending.add(repository.appendMessage(second, MessageRole.USER, "second " + i));
+        }
+
+        pending.forEach(CompletableFuture::join);
+
+        assertThat(adapter.findRecentMessages(first, 10)).extracting(ChatMessage::sequence, ChatMessage::content)
+                .containsExactly(
+                        tuple(1L, "first 1"),
+                        tuple(2L, "first 2"),
+                        tuple(3L, "first 3"),
+                        tuple(4L, "first 4"),
+                        tuple(5L, "first 5"));
+        assertThat(pending.get(9).join().sequence()).isEqualTo(5);
+    }
+
+    @Test
+    void continuesTheSequenceOfMessagesStoredOneByOne() {
+        String conversationId = start();
+        adapter.appendMessage(conversationId, MessageRole.USER, "per row").join();
+
+        ChatMessage stored = repository.appendMessage(conversationId, MessageRole.ASSISTANT, "grouped").join();
+        ChatMessage after = adapter.appendMessage(conversationId, MessageRole.USER, "per row again").join();
+
+        assertThat(stored.sequence()).isEqualTo(2);
+        assertThat(after.sequence()).isEqualTo(3);
+    }
+
+    @Test
+    void unknownConversationFailsOnlyItsOwnMessages() {
+        String conversationId = start();
+
+        CompletableFuture<ChatMessage> missing = repository.appendMessage("missing", MessageRole.USER, "lost");
+        CompletableFuture<ChatMessage> stored = repository.appendMessage(conversationId, MessageRole.USER, "kept");
+
+        assertThatThrownBy(missing::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ConversationNotFoundException.class);
+        assertThat(stored.join().sequence()).isEqualTo(1);
+    }
+
+    @Test
+    void oversizedMessageFailsAloneWhenItsBatchIsRejected() {
+        String conversationId = start();
+
+        CompletableFuture<ChatMessage> before = repository.appendMessage(conversationId, MessageRole.USER, "before");
+        CompletableFuture<ChatMessage> oversized = repository.appendMessage(conversationId, MessageRole.ASSISTANT,
+                "x".repeat(32_001));
+        CompletableFuture<ChatMessage> after = repository.appendMessage(conversationId, MessageRole.USER, "after");
+
+        assertThatThrownBy(oversized::join).isInstanceOf(CompletionException.class);
+        assertThat(before.join().sequence()).isEqualTo(1);
+        assertThat(after.join().sequence()).isEqualTo(2);
+        assertThat(adapter.findRecentMessages(conversationId, 10)).extracting(ChatMessage::content)
+                .containsExactly("before", "after");
+    }
+
+    @Test
+    void stopWritesEverythingStillQueued() {
+        String conversationId = start();
+        List<CompletableFuture<ChatMessage>> pending = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            pending.add(repository.appendMessage(conversationId, MessageRole.USER, "message " + i));
+        }
+
+        repository.stop();
+
+        assertThat(pending).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        assertThat(messages.count()).isEqualTo(1000);
+        assertThatThrownBy(() -> repository.appendMessage(conversationId, MessageRole.USER, "too late"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void groupCommitSharesTransactionsBetweenWriters() throws Exception {
+        int perWriter = 100;
+
+        messagesPerSecond(repository, perWriter);
+
+        long batches = meterRegistry.get("chat.messages.batch").summary().count();
+        assertThat(batches).isLessThan(WRITERS * perWriter / 4);
+    }
+
+    /**
+     * Writes throughput next to per-row saves to {@code target/load/chat-group-commit-report.json}.
+     * An in-memory H2 has no fsync to amortize, so nothing is asserted on the rates; against a
+     * real database the gap is far wider.
+     */
+    @Test
+    @Tag("load")
+    void groupCommitThroughput() throws Exception {
+        int perWriter = 100;
+        // warm up both paths before measuring either
+        messagesPerSecond(adapter, 10);
+        messagesPerSecond(repository, 10);
+        long batchesBefore = meterRegistry.get("chat.messages.batch").summary().count();
+
+        double perRow = messagesPerSecond(adapter, perWriter);
+        double groupCommit = messagesPerSecond(repository, perWriter);
+        long batches = meterRegistry.get("chat.messages.batch").summary().count() - batchesBefore;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("writers", WRITERS);
+        report.put("messagesPerWriter", perWriter);
+        report.put("perRowMessagesPerSecond", perRow);
+        report.put("groupCommitMessagesPerSecond", groupCommit);
+        report.put("groupCommitTransactions", batches);
+        Path file = Path.of("target", "load", "chat-group-commit-report.json");
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    // each writer waits for every acknowledgement, as ChatService does
+    private double messagesPerSecond(ConversationRepositoryPort port, int perWriter) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            ids.add(start());
+        }
+        long started = System.nanoTime();
+        try (ExecutorService pool = Executors.newFixedThreadPool(WRITERS)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (String id : ids) {
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        port.appendMessage(id, MessageRole.USER, "message " + i).join();
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+        return WRITERS * perWriter * 1_000_000_000.0 / (System.nanoTime() - started);
+    }
+
+    private String start() {
+        return adapter.save(Conversation.start("user@example.com", "Write-behind")).id();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.saas.chatbot.infrastructure.shared.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaFallbackDataSourceTest {
+
+    private SwitchableDataSource replica;
+    private ReplicaFallbackDataSource readSide;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primary = database("primary");
+        replica = new SwitchableDataSource(database("replica"));
+        readSide = new ReplicaFallbackDataSource(replica, primary, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(readSide);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReadPool() {
+        assertThat(servedWithin(readOnly)).isEqualTo("replica");
+        assertThat(servedWithin(readWrite)).isEqualTo("primary");
+        assertThat(servedBy()).isEqualTo("primary");
+    }
+
+    @Test
+    void failedCheckoutFallsBackToThePrimaryUntilTheNextHealthyCheck() {
+        replica.down = true;
+        assertThat(servedWithin(readOnly)).isEqualTo("primary");
+        assertThat(readSide.isUsable()).isFalse();
+
+        replica.down = false;
+        assertThat(servedWithin(readOnly)).isEqualTo("primary");
+
+        readSide.checkLag();
+        assertThat(readSide.isUsable()).isTrue();
+        assertThat(servedWithin(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void failedHealthCheckRoutesReadsToThePrimary() {
+        replica.down = true;
+        readSide.checkLag();
+        replica.down = false;
+
+        assertThat(servedWithin(readOnly)).isEqualTo("primary");
+    }
+
+    // the String return type pins execute's result; passed straight to assertThat it is ambiguous
+    private String servedWithin(TransactionTemplate transaction) {
+        return transaction.execute(status -> servedBy());
+    }
+
+    private String servedBy() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(16))");
+        new JdbcTemplate(dataSource).execute("DELETE FROM marker");
+        new JdbcTemplate(dataSource).update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+
+    static class SwitchableDataSource extends DelegatingDataSource {
+
+        volatile boolean down;
+
+        SwitchableDataSource(JdbcDataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.saas.chatbot.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load run of the flows in {@code http/auth.http} against the real application on a
+ * random port, with H2 standing in for PostgreSQL. Each virtual user registers, logs in, makes
+ * authenticated requests, waits for its access token to expire and then fires a burst of
+ * parallel requests with the expired token (a refresh storm, as a browser with several tabs
+ * produces), logs out and checks its old token is rejected.
+ *
+ * <p>Every request is timed on a virtual thread and the per-endpoint throughput and
+ * p50/p99/p999 latencies are written to {@code target/load/auth-load-report.json}, so runs can
+ * be compared; {@link VirtualThreadAuthLoadTest} repeats the run with the server on virtual
+ * threads. Tagged {@code load} and excluded from the default build; run with
+ * {@code ./mvnw -Pload test}. Size the run with {@code -Dload.users} and {@code -Dload.requests}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=load-test-secret-with-at-least-32-characters",
+        // short enough that every user goes through the auto-refresh path during the run
+        "jwt.expiration=3000",
+        // the lowest bcrypt cost keeps the run about the application rather than the hash
+        "auth.password.bcrypt.strength=4",
+        // every virtual user shares 127.0.0.1, so the per-IP limits would throttle the run itself
+        "auth.rate-limit.login.ip.capacity=1000000",
+        "auth.rate-limit.login.email.capacity=1000000",
+        "auth.rate-limit.refresh.ip.capacity=1000000",
+        "auth.audit.file.directory=target/load/audit"
+})
+class AuthLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int REQUESTS_PER_USER = Integer.getInteger("load.requests", 20);
+    private static final int STORM_SIZE = Integer.getInteger("load.storm-size", 8);
+
+    @LocalServerPort
+    int port;
+
+    @Value("${jwt.expiration}")
+    long accessTokenMillis;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    boolean virtualThreads;
+
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final AtomicInteger failedUsers = new AtomicInteger();
+
+    @Test
+    void mixedAuthTraffic() throws Exception {
+        long started = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            List<Future<?>> sessions = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                String email = "load-" + i + "@example.com";
+                sessions.add(users.submit(() -> {
+                    try {
+                        new VirtualUser(client, email, users).run();
+                    } catch (Exception e) {
+                        failedUsers.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> session : sessions) {
+                session.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        writeReport(elapsed);
+
+        assertThat(failedUsers).hasValue(0);
+        recorders.forEach((endpoint, recorder) ->
+                assertThat(recorder.errors()).as("unexpected responses on %s", endpoint).isZero());
+    }
+
+    private final class VirtualUser {
+
+        private final HttpClient client;
+        private final String email;
+        private final ExecutorService executor;
+        private String accessToken;
+        private String refreshToken;
+
+        VirtualUser(HttpClient client, String email, ExecutorService executor) {
+            this.client = client;
+            this.email = email;
+            this.executor = executor;
+        }
+
+        void run() throws Exception {
+            String credentials = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+            send("register", json("/api/auth/register", credentials), 201);
+
+            long loggedInAt = System.currentTimeMillis();
+            keepCookies(send("login", json("/api/auth/login", credentials), 200));
+
+            for (int i = 0; i < REQUESTS_PER_USER; i++) {
+                keepCookies(send("sessions", authenticated("/api/auth/sessions").GET().build(), 200));
+            }
+
+            Thread.sleep(Math.max(0, loggedInAt + accessTokenMillis + 250 - System.currentTimeMillis()));
+            refreshStorm();
+
+            String revokedAccessToken = accessToken;
+            send("logout", authenticated("/api/auth/logout").POST(HttpRequest.BodyPublishers.noBody()).build(), 200);
+            HttpRequest reuse = request("/api/auth/sessions")
+                    .header("Authorization", "Bearer " + revokedAccessToken)
+                    .GET()
+                    .build();
+            send("sessions (revoked token)", reuse, 401, 403);
+        }
+
+        // every request carries the same expired access token and refresh cookie at once
+        private void refreshStorm() throws Exception {
+            HttpRequest expired = authenticated("/api/auth/sessions").GET().build();
+            List<Future<HttpResponse<String>>> burst = new ArrayList<>();
+            for (int i = 0; i < STORM_SIZE; i++) {
+                burst.add(executor.submit(() -> send("sessions (refresh storm)", expired, 200)));
+            }
+            for (Future<HttpResponse<String>> response : burst) {
+                keepCookies(response.get());
+            }
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest request, int... expected)
+                throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean ok = Arrays.stream(expected).anyMatch(status -> status == response.statusCode());
+            recorders.computeIfAbsent(endpoint, name -> new LatencyRecorder())
+                    .record(System.nanoTime() - start, ok);
+            return response;
+        }
+
+        private void keepCookies(HttpResponse<String> response) {
+            for (String header : response.headers().allValues("Set-Cookie")) {
+                String pair = header.substring(0, header.indexOf(';'));
+                String value = pair.substring(pair.indexOf('=') + 1);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                if (pair.startsWith("access_token=")) {
+                    accessToken = value;
+                } else if (pair.startsWith("refresh_token=")) {
+                    refreshToken = value;
+                }
+            }
+        }
+
+        private HttpRequest.Builder authenticated(String path) {
+            return request(path).header("Cookie", "access_token=" + accessToken + "; refresh_token=" + refreshToken);
+        }
+
+        private HttpRequest json(String path, String body) {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(30));
+        }
+    }
+
+    private void writeReport(Duration elapsed) throws IOException {
+        double seconds = elapsed.toNanos() / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        recorders.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> endpoints.put(entry.getKey(), entry.getValue().summary(seconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("serverThreads", virtualThreads ? "virtual" : "platform");
+        report.put("users", USERS);
+        report.put("requestsPerUser", REQUESTS_PER_USER);
+        report.put("stormSize", STORM_SIZE);
+        report.put("failedUsers", failedUsers.get());
+        report.put("durationSeconds", seconds);
+        report.put("endpoints", endpoints);
+
+        Path file = Path.of("target", "load",
+                virtualThreads ? "auth-load-report-virtual.json" : "auth-load-report.json");
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    /**
+     * Keeps every sample; a run is a few tens of thousands of requests, so exact percentiles are
+     * cheaper than getting a histogram's bucket layout right.
+     */
+    static final class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+
+        synchronized Map<String, Object> summary(double runSeconds) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", count / runSeconds);
+            summary.put("p50Ms", percentile(sorted, 0.50));
+            summary.put("p99Ms", percentile(sorted, 0.99));
+            summary.put("p999Ms", percentile(sorted, 0.999));
+            summary.put("maxMs", count == 0 ? 0 : sorted[count - 1] / 1e6);
+            return summary;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.saas.chatbot.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * {@link AuthLoadTest} with requests and scheduled tasks on virtual threads, JDBC access bounded
+ * by the connection limiter and the pinning monitor on. Its report,
+ * {@code target/load/auth-load-report-virtual.json}, sits next to the platform-thread one from
+ * the same run. The gap widens with {@code -Dload.users} well above Tomcat's 200 threads.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadAuthLoadTest extends AuthLoadTest {
+}
@@ -0,0 +1,45 @@
+package com.example.saas.chatbot.support;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the bytes a call allocates on the calling thread, averaged over many calls after a
+ * warm-up long enough for the JIT to have compiled it.
+ */
+public final class Allocations {
+
+    private static final int WARMUP = 20_000;
+    private static final int MEASURED = 100_000;
+
+    // results are published here so escape analysis cannot elide the allocations being measured
+    private static volatile Object sink;
+
+    private Allocations() {
+    }
+
+    public static long bytesPerCall(ThrowingSupplier call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                sink = call.get();
+            }
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED; i++) {
+                sink = call.get();
+            }
+            long after = threads.getThreadAllocatedBytes(threadId);
+            assertThat(sink).isNotNull();
+            return (after - before) / MEASURED;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingSupplier {
+        Object get() throws Exception;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.saas.chatbot.support;
+
+import com.example.saas.chatbot.domain.auth.model.AuthAuditType;
+import com.example.saas.chatbot.domain.auth.model.RefreshToken;
+import com.example.saas.chatbot.domain.auth.model.RefreshTokenRotation;
+import com.example.saas.chatbot.domain.auth.model.TokenVerification;
+import com.example.saas.chatbot.domain.auth.model.User;
+import com.example.saas.chatbot.domain.auth.port.out.AuthAuditPort;
+import com.example.saas.chatbot.domain.auth.port.out.PasswordEncoderPort;
+import com.example.saas.chatbot.domain.auth.port.out.RefreshTokenRepositoryPort;
+import com.example.saas.chatbot.domain.auth.port.out.TokenBlacklistPort;
+import com.example.saas.chatbot.domain.auth.port.out.TokenProviderPort;
+import com.example.saas.chatbot.domain.auth.port.out.UserRepositoryPort;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * In-memory stand-ins for the auth ports, shared by the tests that build an {@code AuthService}
+ * or a filter without Spring.
+ */
+public final class AuthFakes {
+
+    private AuthFakes() {
+    }
+
+    public static class FakeRefreshTokenRepository implements RefreshTokenRepositoryPort {
+
+        public final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+        public final AtomicInteger rotations = new AtomicInteger();
+        public final AtomicInteger lookups = new AtomicInteger();
+        private final User owner;
+
+        public FakeRefreshTokenRepository(User owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public RefreshToken save(RefreshToken refreshToken) {
+            tokens.put(refreshToken.getToken(), refreshToken);
+            return refreshToken;
+        }
+
+        @Override
+        public Optional<RefreshToken> findByToken(String token) {
+            return Optional.ofNullable(tokens.get(token));
+        }
+
+        @Override
+        public Optional<RefreshTokenRotation> rotate(String presentedToken,
+                                                     BiFunction<User, String, RefreshToken> successor) {
+            lookups.incrementAndGet();
+            sleep(); // widen the window in which concurrent refreshes overlap
+
+            RefreshToken stored = tokens.get(presentedToken);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            synchronized (stored) {
+                if (!stored.isValid()) {
+                    return Optional.empty();
+                }
+                stored.revoke();
+            }
+            rotations.incrementAndGet();
+            return Optional.of(new RefreshTokenRotation(owner, save(successor.apply(owner, stored.getFamilyId()))));
+        }
+
+        @Override
+        public List<RefreshToken> findActiveByUserEmail(String userEmail) {
+            return tokens.values().stream()
+                    .filter(token -> token.getUserEmail().equals(userEmail) && token.isValid())
+                    .toList();
+        }
+
+        @Override
+        public boolean revokeFamily(String userEmail, String familyId) {
+            List<RefreshToken> family = tokens.values().stream()
+                    .filter(token -> familyId.equals(token.getFamilyId()) && !token.isRevoked())
+                    .toList();
+            family.forEach(RefreshToken::revoke);
+            return !family.isEmpty();
+        }
+
+        @Override
+        public void revokeAllByUserEmail(String userEmail) {
+            tokens.values().stream()
+                    .filter(token -> token.getUserEmail().equals(userEmail))
+                    .forEach(RefreshToken::revoke);
+        }
+
+        @Override
+        public int deleteExpiredTokens(Instant expiredBefore, Instant revokedBefore, int limit) {
+            return 0;
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public record FakeUserRepository(User user) implements UserRepositoryPort {
+
+        @Override
+        public User save(User user) {
+            return user;
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return user.getEmail().equals(email) ? Optional.of(user) : Optional.empty();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return user.getEmail().equals(email);
+        }
+
+        @Override
+        public void updatePassword(String email, String encodedPassword) {
+        }
+    }
+
+    public static class FakeTokenProvider implements TokenProviderPort {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public String generateAccessToken(User user) {
+            return "access-" + sequence.incrementAndGet();
+        }
+
+        @Override
+        public String generateRefreshToken(User user) {
+            return "refresh-" + sequence.incrementAndGet();
+        }
+
+        @Override
+        public TokenVerification verify(String token) {
+            return TokenVerification.invalid();
+        }
+
+        @Override
+        public String extractEmail(String token) {
+            return null;
+        }
+
+        @Override
+        public boolean isTokenValid(String token) {
+            return false;
+        }
+
+        @Override
+        public boolean isTokenExpired(String token) {
+            return false;
+        }
+    }
+
+    public static class NoopPasswordEncoder implements PasswordEncoderPort {
+
+        @Override
+        public String encode(String rawPassword) {
+            return rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            return rawPassword.equals(encodedPassword);
+        }
+
+        @Override
+        public boolean needsRehash(String encodedPassword) {
+            return false;
+        }
+    }
+
+    public static class NoopBlacklist implements TokenBlacklistPort {
+
+        @Override
+        public void blacklist(String tokenId, Instant expiresAt) {
+        }
+
+        @Override
+        public boolean isBlacklisted(String tokenId) {
+            return false;
+        }
+    }
+
+    public static class RecordingAudit implements AuthAuditPort {
+
+        public final List<AuthAuditType> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void record(AuthAuditType type, String subject) {
+            events.add(type);
+        }
+    }
+
+    /**
+     * Answers every token with the same verification.
+     */
+    public record FixedTokenProvider(TokenVerification verification) implements TokenProviderPort {
+
+        @Override
+        public String generateAccessToken(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String generateRefreshToken(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TokenVerification verify(String token) {
+            return verification;
+        }
+
+        @Override
+        public String extractEmail(String token) {
+            return verification.subject();
+        }
+
+        @Override
+        public boolean isTokenValid(String token) {
+            return true;
+        }
+
+        @Override
+        public boolean isTokenExpired(String token) {
+            return false;
+        }
+    }
+}